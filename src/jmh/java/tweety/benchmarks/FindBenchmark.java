@@ -0,0 +1,58 @@
+package tweety.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tweety.commands.FindCommand;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.tasks.TaskList;
+
+import tweety.ui.GuiUi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures FindCommand#execute, including rendering the matches, on generated task lists of several sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    /** A whole word, a partial word, a rare partial word, and a keyword spanning two words. */
+    @Param({"book", "lib", "CS21", "milk call"})
+    public String keyword;
+
+    @Param({"true", "false"})
+    public String isTrigramIndexEnabled;
+
+    private TaskList tasks;
+    private GuiUi ui;
+    private FindCommand command;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("tweety.index.trigram", isTrigramIndexEnabled);
+        tasks = new TaskList(TaskFileGenerator.generateTasks(taskCount, TaskFileGenerator.DEFAULT_SEED));
+        ui = new GuiUi();
+        command = new FindCommand(keyword);
+    }
+
+    @Benchmark
+    public String execute() throws TweetyException {
+        // Find never touches storage
+        command.execute(tasks, ui, null);
+        return ui.getResponse();
+    }
+}
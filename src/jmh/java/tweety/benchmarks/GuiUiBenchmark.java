@@ -0,0 +1,52 @@
+package tweety.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+
+import tweety.ui.GuiUi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long GuiUi takes to render the responses shown in the dialog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GuiUiBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int taskCount;
+
+    private TaskList tasks;
+    private Task task;
+    private GuiUi ui;
+
+    @Setup
+    public void setUp() {
+        tasks = new TaskList(TaskFileGenerator.generateTasks(taskCount, TaskFileGenerator.DEFAULT_SEED));
+        task = tasks.getTask(0);
+        ui = new GuiUi();
+    }
+
+    @Benchmark
+    public String printTaskList() {
+        ui.printTaskList(tasks);
+        return ui.getResponse();
+    }
+
+    @Benchmark
+    public String printAddedTask() {
+        ui.printAddedTask(task, taskCount);
+        return ui.getResponse();
+    }
+}
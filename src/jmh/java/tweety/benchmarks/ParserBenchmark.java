@@ -0,0 +1,64 @@
+package tweety.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tweety.commands.Command;
+import tweety.commands.Parser;
+
+import tweety.exceptions.TweetyException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long Parser#parseCommand takes for each kind of command,
+ * against the regular expression based LegacyParser it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final Map<String, String> INPUTS = Map.ofEntries(
+            Map.entry("todo", "todo read book about the history of computing"),
+            Map.entry("deadline", "deadline return library book /by 2025-09-30"),
+            Map.entry("event", "event project meeting /from Mon 2pm /to 4pm"),
+            Map.entry("mark", "mark 42"),
+            Map.entry("unmark", "unmark 42"),
+            Map.entry("delete", "delete 42"),
+            Map.entry("bulkDelete", "delete 1,4,9-50"),
+            Map.entry("find", "find book"),
+            Map.entry("edit", "edit 3 description finish tP"),
+            Map.entry("list", "list"),
+            Map.entry("bye", "bye"));
+
+    @Param({"todo", "deadline", "event", "mark", "unmark", "delete", "bulkDelete", "find", "edit", "list", "bye"})
+    public String command;
+
+    private Parser parser;
+    private LegacyParser legacyParser;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        parser = new Parser();
+        legacyParser = new LegacyParser();
+        input = INPUTS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws TweetyException {
+        return parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public Command parseCommandLegacy() throws TweetyException {
+        return legacyParser.parseCommand(input);
+    }
+}
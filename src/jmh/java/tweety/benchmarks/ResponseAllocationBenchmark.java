@@ -0,0 +1,67 @@
+package tweety.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tweety.commands.TaskListCommand;
+import tweety.commands.Parser;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.tasks.TaskList;
+
+import tweety.ui.GuiUi;
+
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of rendering a command's reply into a fresh GuiUi per command, as the GUI used to,
+ * against rendering it into one reused GuiUi.
+ * Run with the GC profiler to see the bytes allocated per command (gc.alloc.rate.norm), e.g.
+ * {@code ./gradlew jmh -PjmhIncludes=ResponseAllocationBenchmark -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseAllocationBenchmark {
+
+    @Param({"list", "find book", "stats"})
+    public String input;
+
+    private TaskList tasks;
+    private TaskListCommand command;
+    private GuiUi reusedUi;
+
+    @Setup
+    public void setUp() throws TweetyException {
+        tasks = new TaskList(TaskFileGenerator.generateTasks(20, TaskFileGenerator.DEFAULT_SEED));
+        command = (TaskListCommand) new Parser().parseCommand(input);
+        reusedUi = new GuiUi();
+    }
+
+    /**
+     * Renders into a fresh GuiUi, also creating the Scanner on standard input that every Ui used to create.
+     */
+    @Benchmark
+    public String freshUiPerCommand(Blackhole blackhole) throws TweetyException {
+        blackhole.consume(new Scanner(System.in));
+        GuiUi ui = new GuiUi();
+        command.execute(tasks, ui, null);
+        return ui.getResponse();
+    }
+
+    @Benchmark
+    public String reusedUi() throws TweetyException {
+        reusedUi.reset();
+        command.execute(tasks, reusedUi, null);
+        return reusedUi.getResponse();
+    }
+}
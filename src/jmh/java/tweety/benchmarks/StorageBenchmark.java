@@ -0,0 +1,73 @@
+package tweety.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures loading and saving generated task files of several sizes, in both file formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    @Param({"text", "binary"})
+    public String format;
+
+    private Path directory;
+    private Storage storage;
+    private TaskList tasks;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean isBinary = format.equals("binary");
+        directory = Files.createTempDirectory("tweety-bench");
+        TaskFileGenerator.writeTaskFile(directory, taskCount, isBinary);
+        storage = TaskFileGenerator.createStorage(directory, isBinary);
+        tasks = new TaskList(TaskFileGenerator.generateTasks(taskCount, TaskFileGenerator.DEFAULT_SEED));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public TaskList loadTasks() {
+        TaskList loadedTasks = new TaskList();
+        storage.loadTasks(loadedTasks);
+        return loadedTasks;
+    }
+
+    @Benchmark
+    public void saveTasks() {
+        storage.saveTasks(tasks);
+    }
+}
@@ -0,0 +1,117 @@
+package tweety.benchmarks;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+import tweety.tasks.ToDo;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.time.LocalDate;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates synthetic task lists and task files for the benchmarks.
+ * The same count and seed always produce the same tasks, so results can be compared between runs.
+ */
+public class TaskFileGenerator {
+    public static final long DEFAULT_SEED = 2103L;
+
+    private static final String[] WORDS = {
+        "read", "book", "return", "library", "submit", "assignment", "finish", "iP", "tP", "lecture",
+        "tutorial", "quiz", "project", "meeting", "buy", "groceries", "milk", "call", "mum", "gym",
+        "review", "notes", "CS2103T", "CS2100", "lab", "report", "email", "prof", "plan", "trip",
+        "pay", "bills", "clean", "room", "laundry", "cook", "dinner", "team", "demo", "practice"
+    };
+    private static final String[] TIMES = {"Mon 2pm", "Tue 10am", "Wed 4pm", "Thu 9am", "Fri 6pm", "Sat noon"};
+    private static final LocalDate FIRST_DEADLINE = LocalDate.of(2025, 1, 1);
+
+    private TaskFileGenerator() {
+    }
+
+    /**
+     * Generates a list of tasks: about half todos, a third deadlines and the rest events,
+     * with descriptions of two to five words and about a third of the tasks marked as done.
+     *
+     * @param count The number of tasks to generate.
+     * @param seed The seed of the random generator.
+     * @return The generated tasks.
+     */
+    public static ArrayList<Task> generateTasks(int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(generateTask(random));
+        }
+        return tasks;
+    }
+
+    private static Task generateTask(Random random) {
+        StringBuilder description = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        int wordCount = 2 + random.nextInt(4);
+        for (int i = 1; i < wordCount; i++) {
+            description.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        Task task;
+        int kind = random.nextInt(6);
+        if (kind < 3) {
+            task = new ToDo(description.toString());
+        } else if (kind < 5) {
+            task = new Deadline(description.toString(), FIRST_DEADLINE.plusDays(random.nextInt(730)));
+        } else {
+            task = new Event(description.toString(), TIMES[random.nextInt(TIMES.length)],
+                    TIMES[random.nextInt(TIMES.length)]);
+        }
+
+        if (random.nextInt(3) == 0) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Creates a storage for a task file in the given directory, without journal or background writer.
+     *
+     * @param directory The directory of the task file.
+     * @param isBinary Whether the task file uses the binary format.
+     * @return The storage of the task file.
+     */
+    public static Storage createStorage(Path directory, boolean isBinary) {
+        return new Storage(directory.resolve("Tweety.txt"), directory, false, Integer.MAX_VALUE,
+                false, 0, false, isBinary);
+    }
+
+    /**
+     * Writes a task file of generated tasks into the given directory.
+     *
+     * @param directory The directory to write the task file to.
+     * @param count The number of tasks to generate.
+     * @param isBinary Whether to write the binary format instead of the text format.
+     */
+    public static void writeTaskFile(Path directory, int count, boolean isBinary) {
+        TaskList tasks = new TaskList(generateTasks(count, DEFAULT_SEED));
+        createStorage(directory, isBinary).saveTasks(tasks);
+    }
+
+    /**
+     * Writes a task file of generated tasks, for trying out Tweety with a large list.
+     * Usage: {@code TaskFileGenerator <count> <directory> [text|binary]}
+     *
+     * @param args The number of tasks, the directory to write to, and optionally the format.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: TaskFileGenerator <count> <directory> [text|binary]");
+            return;
+        }
+        boolean isBinary = args.length > 2 && args[2].equalsIgnoreCase("binary");
+        writeTaskFile(Paths.get(args[1]), Integer.parseInt(args[0]), isBinary);
+    }
+}
@@ -0,0 +1,178 @@
+package tweety;
+
+/**
+ * Provides the tunable settings of the Tweety application.
+ * Each setting is read from a JVM system property (e.g. -Dtweety.storage.journal=true)
+ * and falls back to a default value when the property is missing or malformed.
+ */
+public final class Settings {
+
+    private static final String JOURNAL_ENABLED = "tweety.storage.journal";
+    private static final String COMPACTION_THRESHOLD = "tweety.storage.compactEvery";
+    private static final String ASYNC_STORAGE_ENABLED = "tweety.storage.async";
+    private static final String MAX_WRITE_LATENCY = "tweety.storage.maxLatencyMs";
+    private static final String FSYNC_ENABLED = "tweety.storage.fsync";
+    private static final String STORAGE_FORMAT = "tweety.storage.format";
+    private static final String TRIGRAM_INDEX_ENABLED = "tweety.index.trigram";
+    private static final String TRIGRAM_INDEX_MIN_TASKS = "tweety.index.trigramMinTasks";
+    private static final String TRANSCRIPT_HISTORY_LIMIT = "tweety.gui.historyLimit";
+    private static final String BATCH_SAVE_INTERVAL = "tweety.batch.saveEvery";
+    private static final String UNDO_MEMORY_LIMIT = "tweety.undo.memoryKb";
+    private static final String MAX_LOADED_LISTS = "tweety.lists.maxLoaded";
+    private static final String SERVER_PORT = "tweety.server.port";
+
+    private Settings() {
+    }
+
+    /**
+     * Returns whether storage should append mutation records to a journal
+     * instead of rewriting the whole task file on every change.
+     *
+     * @return True if journaled storage is enabled, false otherwise.
+     */
+    public static boolean isJournalEnabled() {
+        return getBoolean(JOURNAL_ENABLED, false);
+    }
+
+    /**
+     * Returns the number of journal records after which the journal is compacted back into the task file.
+     *
+     * @return The compaction threshold.
+     */
+    public static int getCompactionThreshold() {
+        return getPositiveInt(COMPACTION_THRESHOLD, 500);
+    }
+
+    /**
+     * Returns whether saves are written out by a dedicated writer thread instead of the thread running the command.
+     *
+     * @return True if asynchronous storage is enabled, false otherwise.
+     */
+    public static boolean isAsyncStorageEnabled() {
+        return getBoolean(ASYNC_STORAGE_ENABLED, false);
+    }
+
+    /**
+     * Returns how long the writer thread may hold back a save so that it can be coalesced with later ones.
+     *
+     * @return The maximum write latency in milliseconds.
+     */
+    public static int getMaxWriteLatencyMillis() {
+        return getNonNegativeInt(MAX_WRITE_LATENCY, 50);
+    }
+
+    /**
+     * Returns whether every write is forced to the storage device before it is considered done.
+     *
+     * @return True if fsync is enabled, false otherwise.
+     */
+    public static boolean isFsyncEnabled() {
+        return getBoolean(FSYNC_ENABLED, false);
+    }
+
+    /**
+     * Returns whether the task file is kept in the binary format instead of the human-readable text format.
+     *
+     * @return True if the storage format is "binary", false otherwise.
+     */
+    public static boolean isBinaryStorageEnabled() {
+        return "binary".equalsIgnoreCase(System.getProperty(STORAGE_FORMAT, "text").trim());
+    }
+
+    /**
+     * Returns whether find may use a trigram index to narrow down substring searches.
+     *
+     * @return True if the trigram index is enabled, false otherwise.
+     */
+    public static boolean isTrigramIndexEnabled() {
+        return getBoolean(TRIGRAM_INDEX_ENABLED, true);
+    }
+
+    /**
+     * Returns the number of tasks a list must reach before its trigram index is built.
+     * Smaller lists are searched quickly enough without one.
+     *
+     * @return The minimum number of tasks for the trigram index.
+     */
+    public static int getTrigramIndexMinTasks() {
+        return getNonNegativeInt(TRIGRAM_INDEX_MIN_TASKS, 1000);
+    }
+
+    /**
+     * Returns the number of messages the chat window keeps before dropping the oldest ones.
+     *
+     * @return The maximum number of messages in the transcript.
+     */
+    public static int getTranscriptHistoryLimit() {
+        return getPositiveInt(TRANSCRIPT_HISTORY_LIMIT, 1000);
+    }
+
+    /**
+     * Returns the number of commands batch mode runs between saves.
+     * Zero means the tasks are only saved once, after the last command.
+     *
+     * @return The number of commands between saves in batch mode.
+     */
+    public static int getBatchSaveInterval() {
+        return getNonNegativeInt(BATCH_SAVE_INTERVAL, 0);
+    }
+
+    /**
+     * Returns how much memory the undo history may take before the oldest edits are forgotten.
+     * Zero turns undo off.
+     *
+     * @return The memory limit of the undo history in kilobytes.
+     */
+    public static int getUndoMemoryLimitKilobytes() {
+        return getNonNegativeInt(UNDO_MEMORY_LIMIT, 16384);
+    }
+
+    /**
+     * Returns how many task lists may be kept in memory at once.
+     * Once more lists have been used, the one used least recently is saved and dropped from memory.
+     *
+     * @return The maximum number of loaded task lists.
+     */
+    public static int getMaxLoadedLists() {
+        return getPositiveInt(MAX_LOADED_LISTS, 4);
+    }
+
+    /**
+     * Returns the port the server mode listens on when none is given on the command line.
+     *
+     * @return The server port.
+     */
+    public static int getServerPort() {
+        return getPositiveInt(SERVER_PORT, 8080);
+    }
+
+    private static boolean getBoolean(String key, boolean defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    private static int getPositiveInt(String key, int defaultValue) {
+        int value = getInt(key, defaultValue);
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static int getNonNegativeInt(String key, int defaultValue) {
+        int value = getInt(key, defaultValue);
+        return value >= 0 ? value : defaultValue;
+    }
+
+    private static int getInt(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
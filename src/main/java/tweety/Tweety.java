@@ -5,55 +5,102 @@ import tweety.commands.Parser;
 
 import tweety.exceptions.TweetyException;
 
-import tweety.storage.Storage;
+import tweety.server.TweetyServer;
+
+import tweety.storage.Workspaces;
 
 import tweety.tasks.TaskList;
+import tweety.tasks.TaskSnapshot;
 
 import tweety.ui.GuiUi;
 import tweety.ui.Ui;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.function.BiFunction;
+
 /**
  * Main class for the Tweety application.
  * Handles user input and manages tasks including todos, deadlines, and events.
  */
 public class Tweety {
 
-    private Storage storage;
-    private TaskList tasks;
+    private static final String BATCH_OPTION = "--batch";
+    private static final String SERVE_OPTION = "--serve";
+
+    private Workspaces workspaces;
     private Ui ui;
+    private GuiUi responseUi;
     private Parser parser;
     private boolean shouldExit = false;
+    private boolean shouldShowTaskTable = false;
 
     /**
      * Constructs a new Tweety application instance.
-     * Initialises the user interface, storage, and task list with previously saved tasks.
+     * Initialises the user interface, and the workspaces with the main task list as the current one.
+     * The saved tasks are loaded in the background, so the instance is ready to accept input immediately.
      */
     public Tweety() {
-        this.ui = new GuiUi();
-        this.storage = new Storage();
-        this.tasks = new TaskList(storage.loadTasks());
+        this.ui = new Ui();
+        this.responseUi = new GuiUi();
+        this.workspaces = new Workspaces();
         this.parser = new Parser();
     }
 
-    public String getResponse(String input) {
-        try {
-            Command command = parser.parseCommand(input);
+    /**
+     * Returns the welcome message shown when the GUI starts.
+     *
+     * @return The welcome message.
+     */
+    public synchronized String getWelcomeMessage() {
+        responseUi.reset();
+        responseUi.printWelcomeMessage();
+        return responseUi.getResponse();
+    }
 
-            // Create a temporary UI to capture output for GUI
-            GuiUi tempUi = new GuiUi();
+    /**
+     * Executes one line of user input and returns Tweety's reply, for display in the GUI.
+     * Every reply is rendered into the same reusable buffer, so running a command allocates little beyond the reply.
+     *
+     * @param input The user input.
+     * @return The reply to the input, or the error message if the command failed.
+     */
+    public synchronized String getResponse(String input) {
+        try {
+            return runCommand(input);
+        } catch (TweetyException e) {
+            shouldShowTaskTable = false;
+            return "Error: " + e.getMessage();
+        }
+    }
 
-            // Execute the command
-            command.execute(tasks, tempUi, storage);
+    /**
+     * Executes one line of user input and returns Tweety's reply, leaving a failed command to the caller.
+     *
+     * @param input The user input.
+     * @return The reply to the input.
+     * @throws TweetyException If the input is not a valid command or the command fails.
+     */
+    public synchronized String runCommand(String input) throws TweetyException {
+        // Drop anything left behind by a command that failed halfway through rendering
+        responseUi.reset();
+        Command command = parser.parseCommand(input);
 
-            // Check if this command should exit
-            shouldExit = command.isExit();
+        // Execute the command once every saved task is in the current list
+        command.execute(workspaces, responseUi);
 
-            // Return the response from the UI
-            return tempUi.getResponse();
+        // Check if this command should exit, or wants the task table shown
+        shouldExit = command.isExit();
+        shouldShowTaskTable = responseUi.consumeTaskTableRequest();
 
-        } catch (TweetyException e) {
-            return "Error: " + e.getMessage();
-        }
+        // Return the response from the UI
+        return responseUi.getResponse();
     }
 
     /**
@@ -65,13 +112,82 @@ public class Tweety {
         return shouldExit;
     }
 
+    /**
+     * Returns whether the last command asked for the whole task list to be shown in the task table.
+     *
+     * @return True if the task table should be shown, false otherwise.
+     */
+    public boolean shouldShowTaskTable() {
+        return shouldShowTaskTable;
+    }
+
+    /**
+     * Returns the current task list, for views that display it directly.
+     *
+     * @return The current task list.
+     */
+    public TaskList getTasks() {
+        return workspaces.getCurrentTasks();
+    }
+
+    /**
+     * Returns the name of the current task list.
+     *
+     * @return The name of the current list.
+     */
+    public String getListName() {
+        return workspaces.getCurrentName();
+    }
+
+    /**
+     * Reads the name of the current task list along with a snapshot of it, both taken while no command can
+     * switch to another list. The reader runs after they are taken, so it holds up no command.
+     *
+     * @param reader The action to run on the name and the snapshot.
+     * @param <T> The type of the result.
+     * @return The result of the reader.
+     */
+    public <T> T readCurrentList(BiFunction<String, TaskSnapshot, T> reader) {
+        String listName;
+        TaskSnapshot snapshot;
+        synchronized (this) {
+            listName = workspaces.getCurrentName();
+            snapshot = workspaces.getCurrentTasks().snapshot();
+        }
+        return reader.apply(listName, snapshot);
+    }
+
     /**
      * Entry point for the Tweety application.
-     * Creates a new Tweety instance and starts the application.
+     * Creates a new Tweety instance and starts the application, runs a command file with
+     * "--batch [command_file]", or serves Tweety over HTTP on the loopback address with "--serve [port]".
      *
-     * @param args Command line arguments (not used).
+     * @param args Command line arguments.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            if (args.length != 2) {
+                System.out.println("Usage: tweety " + BATCH_OPTION + " <command file>");
+                return;
+            }
+            new Tweety().runBatch(Paths.get(args[1]), Settings.getBatchSaveInterval());
+            return;
+        }
+        if (args.length > 0 && args[0].equals(SERVE_OPTION)) {
+            int port = Settings.getServerPort();
+            try {
+                if (args.length > 2) {
+                    throw new NumberFormatException();
+                } else if (args.length == 2) {
+                    port = Integer.parseInt(args[1]);
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Usage: tweety " + SERVE_OPTION + " [port]");
+                return;
+            }
+            new Tweety().runServer(port);
+            return;
+        }
         new Tweety().run();
     }
 
@@ -98,6 +214,91 @@ public class Tweety {
         ui.closeScanner();
     }
 
+    /**
+     * Runs every command in the given file, one per line, without the GUI or the interactive prompt.
+     * Saves are deferred while the commands run and the tasks are written out once at the end,
+     * or after every saveInterval commands if it is positive. The replies to the commands are not shown,
+     * only the errors and a final report of how many commands were run and how fast.
+     * Blank lines are skipped, and the run stops early at a bye command.
+     *
+     * @param commandFile The file to read the commands from.
+     * @param saveInterval The number of commands between saves, or 0 to only save at the end.
+     */
+    public void runBatch(Path commandFile, int saveInterval) {
+        assert saveInterval >= 0 : "saveInterval should not be negative";
+
+        // Wait for the saved tasks to be loaded, so that loading is not counted in the report
+        workspaces.getCurrentTasks();
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int errorCount = 0;
+
+        workspaces.setSavesDeferred(true);
+        try (BufferedReader reader = Files.newBufferedReader(commandFile, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            boolean isExit = false;
+            String line;
+            while (!isExit && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    // The replies are not shown, so every command renders into the same reusable buffer
+                    responseUi.reset();
+                    Command command = parser.parseCommand(line);
+                    command.execute(workspaces, responseUi);
+                    isExit = command.isExit();
+                } catch (TweetyException | RuntimeException e) {
+                    // One bad line should not stop the rest of the batch from running
+                    errorCount++;
+                    ui.printBatchError(lineNumber, e);
+                }
+
+                if (saveInterval > 0 && commandCount % saveInterval == 0) {
+                    workspaces.saveDeferredTasks();
+                }
+            }
+        } catch (IOException e) {
+            ui.printErrorMessage(new TweetyException("Could not read the command file " + commandFile + ": " + e));
+            return;
+        } finally {
+            workspaces.setSavesDeferred(false);
+            workspaces.flush();
+        }
+
+        ui.printBatchReport(commandCount, errorCount, workspaces.getCurrentTasks().getTaskCount(),
+                System.nanoTime() - startTime);
+    }
+
+    /**
+     * Serves this instance over HTTP on the loopback address until a bye command arrives.
+     *
+     * @param port The port to listen on.
+     */
+    public void runServer(int port) {
+        TweetyServer server;
+        try {
+            server = new TweetyServer(this, port);
+        } catch (IOException | IllegalArgumentException e) {
+            ui.printErrorMessage(new TweetyException("Could not listen on port " + port + ": " + e.getMessage()));
+            return;
+        }
+
+        // Load the saved tasks before taking requests, so that the first one does not wait for them
+        workspaces.getCurrentTasks();
+        server.start();
+        ui.printServerStarted(server.getPort());
+        try {
+            server.awaitStop();
+        } catch (InterruptedException e) {
+            server.stop();
+        }
+        workspaces.flush();
+    }
+
     /**
      * Executes the given command and determines if the application should exit.
      * Delegates command execution to the command object and checks for exit condition.
@@ -107,7 +308,7 @@ public class Tweety {
      * @throws TweetyException If command execution fails.
      */
     private boolean executeCommand(Command command) throws TweetyException {
-        command.execute(tasks, ui, storage);
+        command.execute(workspaces, ui);
         return command.isExit();
     }
 }
@@ -2,9 +2,7 @@ package tweety.commands;
 
 import tweety.exceptions.TweetyException;
 
-import tweety.storage.Storage;
-
-import tweety.tasks.TaskList;
+import tweety.storage.Workspaces;
 
 import tweety.ui.Ui;
 
@@ -12,6 +10,8 @@ import tweety.ui.Ui;
  * Abstract base class for all commands in the Tweety application.
  * Defines the common structure and behavior that all command implementations must follow.
  * Uses the Command pattern to encapsulate command execution logic.
+ * Most commands work on the tasks of the current list, and extend {@link TaskListCommand};
+ * the others, such as switching lists, work on the lists themselves.
  */
 public abstract class Command {
 
@@ -20,7 +20,8 @@ public abstract class Command {
      * Each type represents a specific action that can be performed on tasks.
      */
     public enum CommandType {
-        MARK, UNMARK, DELETE, LIST, BYE, EVENT, TODO, DEADLINE, FIND, EDIT
+        MARK, UNMARK, DELETE, LIST, BYE, EVENT, TODO, DEADLINE, FIND, EDIT, STATS, IMPORT, EXPORT, DUE, OVERDUE,
+        EVENTS, CONFLICTS, COUNT, UNDO, REDO, SWITCH, LISTS
     }
 
     private CommandType type;
@@ -39,12 +40,11 @@ public abstract class Command {
      * Executes this command with the provided application components.
      * Implementation varies based on the specific command type and its required operations.
      *
-     * @param tasks The task list to operate on.
+     * @param workspaces The task lists, of which the current one is usually operated on.
      * @param ui The user interface for displaying messages.
-     * @param storage The storage component for persisting data.
      * @throws TweetyException If command execution fails or encounters invalid conditions.
      */
-    public abstract void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException;
+    public abstract void execute(Workspaces workspaces, Ui ui) throws TweetyException;
 
     /**
      * Determines whether this command should cause the application to exit.
@@ -53,4 +53,4 @@ public abstract class Command {
      * @return True if the application should exit after executing this command, false otherwise.
      */
     public abstract boolean isExit();
-}
\ No newline at end of file
+}
@@ -0,0 +1,238 @@
+package tweety.commands;
+
+/**
+ * Splits one line of user input into the command word and the argument after it, in a single pass.
+ * The argument is kept as a span of the input rather than copied, and markers such as "/by" are found by
+ * comparing characters, so parsing a command compiles no regular expressions and only copies the parts
+ * of the input that end up in the command.
+ * Like {@link String#trim()}, the input is trimmed of every character up to and including the space.
+ */
+final class CommandTokenizer {
+    private final String input;
+    private final int commandStart;
+    private final int commandEnd;
+    private final int argumentStart;
+    private final int argumentEnd;
+
+    /**
+     * Constructs a CommandTokenizer over the given input.
+     *
+     * @param input The raw user input.
+     */
+    CommandTokenizer(String input) {
+        this.input = input;
+
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int wordEnd = start;
+        while (wordEnd < end && input.charAt(wordEnd) != ' ') {
+            wordEnd++;
+        }
+        int argumentStart = wordEnd;
+        while (argumentStart < end && input.charAt(argumentStart) <= ' ') {
+            argumentStart++;
+        }
+
+        this.commandStart = start;
+        this.commandEnd = wordEnd;
+        this.argumentStart = argumentStart;
+        this.argumentEnd = end;
+    }
+
+    /**
+     * Returns the command word, which is everything before the first space of the trimmed input.
+     *
+     * @return The command word.
+     */
+    String getCommand() {
+        return input.substring(commandStart, commandEnd);
+    }
+
+    int getArgumentStart() {
+        return argumentStart;
+    }
+
+    int getArgumentEnd() {
+        return argumentEnd;
+    }
+
+    /**
+     * Returns whether the raw input ends right after the command word, without even trailing whitespace.
+     *
+     * @return True if nothing follows the command word, false otherwise.
+     */
+    boolean endsAtCommand() {
+        return commandEnd == input.length();
+    }
+
+    boolean hasArgument() {
+        return argumentStart < argumentEnd;
+    }
+
+    /**
+     * Returns everything after the command word, trimmed.
+     *
+     * @return The argument, or an empty string if there is none.
+     */
+    String getArgument() {
+        return input.substring(argumentStart, argumentEnd);
+    }
+
+    /**
+     * Returns whether the whole argument is exactly the given word.
+     *
+     * @param word The word to compare the argument with.
+     * @return True if the argument equals the word, false otherwise.
+     */
+    boolean isArgument(String word) {
+        return matches(argumentStart, argumentEnd, word);
+    }
+
+    /**
+     * Returns whether the text between two positions of the input is exactly the given word.
+     *
+     * @param start The position of the first character, inclusive.
+     * @param end The position after the last character, exclusive.
+     * @param word The word to compare the text with.
+     * @return True if the text equals the word, false otherwise.
+     */
+    boolean matches(int start, int end, String word) {
+        return end - start == word.length() && input.startsWith(word, start);
+    }
+
+    /**
+     * Returns the trimmed text between two positions of the input.
+     *
+     * @param start The position of the first character, inclusive.
+     * @param end The position after the last character, exclusive.
+     * @return The trimmed text, which is empty if there is only whitespace between the positions.
+     */
+    String getSpan(int start, int end) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return input.substring(start, end);
+    }
+
+    /**
+     * Parses the trimmed text between two positions of the input as a decimal integer, without copying it.
+     *
+     * @param start The position of the first character, inclusive.
+     * @param end The position after the last character, exclusive.
+     * @return The parsed integer.
+     * @throws NumberFormatException If the text is not a valid integer.
+     */
+    int parseInt(int start, int end) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return Integer.parseInt(input, start, end, 10);
+    }
+
+    /**
+     * Finds the first occurrence of the marker within the argument.
+     *
+     * @param marker The text to look for, such as "/by".
+     * @param from The position to start looking from.
+     * @return The position of the marker, or -1 if the argument does not contain it from that position.
+     */
+    int indexOf(String marker, int from) {
+        int index = input.indexOf(marker, Math.max(from, argumentStart));
+        return index >= 0 && index + marker.length() <= argumentEnd ? index : -1;
+    }
+
+    /**
+     * Finds the first occurrence of the marker within the argument that is not the start of a longer word,
+     * so that "/to" is not found in "/tomorrow".
+     *
+     * @param marker The text to look for, such as "/to".
+     * @param from The position to start looking from.
+     * @return The position of the marker, or -1 if the argument does not contain it from that position.
+     */
+    int indexOfMarker(String marker, int from) {
+        int index = indexOf(marker, from);
+        while (index >= 0 && index + marker.length() < argumentEnd
+                && Character.isLetter(input.charAt(index + marker.length()))) {
+            index = indexOf(marker, index + 1);
+        }
+        return index;
+    }
+
+    /**
+     * Finds the first occurrence of the character within the given part of the argument.
+     *
+     * @param c The character to look for, such as ','.
+     * @param from The position to start looking from.
+     * @param end The position to stop looking at, exclusive.
+     * @return The position of the character, or -1 if there is none before the end.
+     */
+    int indexOf(char c, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (input.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the end of the argument without any trailing run of the given character.
+     *
+     * @param c The character to strip, such as ','.
+     * @return The position after the last character of the argument that is not the given character.
+     */
+    int stripTrailing(char c) {
+        int end = argumentEnd;
+        while (end > argumentStart && input.charAt(end - 1) == c) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Finds the first whitespace character of the argument from the given position.
+     * Whitespace is what {@code \s} matches in a regular expression.
+     *
+     * @param from The position to start looking from.
+     * @return The position of the whitespace character, or -1 if there is none.
+     */
+    int findWhitespace(int from) {
+        for (int i = from; i < argumentEnd; i++) {
+            if (isWhitespace(input.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips the run of whitespace characters starting at the given position.
+     *
+     * @param from The position of the first character to skip.
+     * @return The position of the first character after the run.
+     */
+    int skipWhitespace(int from) {
+        int i = from;
+        while (i < argumentEnd && isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
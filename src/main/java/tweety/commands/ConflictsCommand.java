@@ -0,0 +1,46 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.Event;
+import tweety.tasks.EventConflict;
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command for listing the events that overlap each other in the Tweety application.
+ * Completed events, and events with free-text times, are left out.
+ */
+public class ConflictsCommand extends TaskListCommand {
+
+    /**
+     * Constructs a new ConflictsCommand.
+     */
+    public ConflictsCommand() {
+        super(CommandType.CONFLICTS);
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        List<EventConflict> conflicts = tasks.getEventConflicts();
+        List<Event> earlierEvents = new ArrayList<>(conflicts.size());
+        List<Event> laterEvents = new ArrayList<>(conflicts.size());
+        for (EventConflict conflict : conflicts) {
+            earlierEvents.add(conflict.getEarlierEvent());
+            laterEvents.add(conflict.getLaterEvent());
+        }
+
+        ui.printConflicts(conflicts, getTaskNumbers(tasks, earlierEvents), getTaskNumbers(tasks, laterEvents));
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for displaying how many tasks are done and how many are not in the Tweety application.
+ * The counts are kept by the task list as tasks change, so no task is looked at.
+ */
+public class CountCommand extends TaskListCommand {
+
+    /**
+     * Constructs a new CountCommand.
+     */
+    public CountCommand() {
+        super(CommandType.COUNT);
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        ui.printTaskCounts(tasks.getCompletedTaskCount(), tasks.getPendingTaskCount());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -7,14 +7,17 @@ import tweety.storage.Storage;
 import tweety.tasks.Deadline;
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
  * Command for creating deadline tasks in the Tweety application.
  * Creates a new deadline task with a description and due date, then adds it to the task list.
  */
-public class DeadlineCommand extends Command {
+public class DeadlineCommand extends TaskListCommand {
 
     private String description;
     private String by;
@@ -35,10 +38,11 @@ public class DeadlineCommand extends Command {
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
             Task newTask = new Deadline(description, by);
             tasks.addTask(newTask);
+            tasks.recordEdit(UndoableEdit.add(List.of(newTask)));
 
             storage.saveTasks(tasks);
 
-            ui.printAddedTask(newTask, tasks.getTaskCount());
+            ui.printAddedTask(newTask, tasks.getTaskCount(), tasks.getPendingTaskCount());
     }
 
     @Override
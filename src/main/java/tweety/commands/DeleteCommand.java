@@ -6,14 +6,20 @@ import tweety.storage.Storage;
 
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.TaskSelection;
+import tweety.tasks.UndoableEdit;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
  * Command for deleting tasks in the Tweety application.
+ * Deletes the specified task, or every selected task in one pass.
  */
-public class DeleteCommand extends Command {
+public class DeleteCommand extends TaskListCommand {
     private int taskNumber;
+    private TaskSelection selection;
 
     /**
      * Constructs a new DeleteCommand with the specified task number.
@@ -25,13 +31,34 @@ public class DeleteCommand extends Command {
         this.taskNumber = taskNumber;
     }
 
+    /**
+     * Constructs a new DeleteCommand deleting every selected task at once.
+     *
+     * @param selection The tasks to delete.
+     */
+    public DeleteCommand(TaskSelection selection) {
+        super(CommandType.DELETE);
+        this.selection = selection;
+    }
+
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        if (selection != null) {
+            List<Task> deletedTasks = requireAnySelected(tasks.deleteTasks(selection));
+            tasks.recordEdit(UndoableEdit.delete(deletedTasks));
+
+            storage.saveTasks(tasks);
+
+            ui.printDeletedTasks(deletedTasks, tasks.getTaskCount(), tasks.getPendingTaskCount());
+            return;
+        }
+
         Task deletedTask = tasks.deleteTask(taskNumber);
+        tasks.recordEdit(UndoableEdit.delete(List.of(deletedTask)));
 
         storage.saveTasks(tasks);
 
-        ui.printDeletedTask(deletedTask, tasks.getTaskCount());
+        ui.printDeletedTask(deletedTask, tasks.getTaskCount(), tasks.getPendingTaskCount());
     }
 
     @Override
@@ -0,0 +1,43 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Command for listing the deadlines due by a date in the Tweety application.
+ * Displays every deadline that is not done yet and is due on or before the date, including overdue ones.
+ */
+public class DueCommand extends TaskListCommand {
+    private LocalDate lastDay;
+
+    /**
+     * Constructs a new DueCommand for the specified date.
+     *
+     * @param lastDay The last due date to include.
+     */
+    public DueCommand(LocalDate lastDay) {
+        super(CommandType.DUE);
+        this.lastDay = lastDay;
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        List<Task> dueTasks = tasks.getDeadlinesDueBy(lastDay);
+
+        ui.printDueTasks(dueTasks, getTaskNumbers(tasks, dueTasks), lastDay);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -4,12 +4,13 @@ import tweety.exceptions.TweetyException;
 import tweety.storage.Storage;
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
 import tweety.ui.Ui;
 
 /**
  * Command for editing tasks in the Tweety application.
  */
-public class EditCommand extends Command {
+public class EditCommand extends TaskListCommand {
     private int taskNumber;
     private String field;
     private String newValue;
@@ -31,7 +32,9 @@ public class EditCommand extends Command {
 
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        String oldValue = tasks.retrieveTask(taskNumber).getFieldValue(field);
         Task editedTask = tasks.editTask(taskNumber, field, newValue);
+        tasks.recordEdit(UndoableEdit.edit(editedTask, field, oldValue, editedTask.getFieldValue(field)));
 
         storage.saveTasks(tasks);
 
@@ -7,14 +7,17 @@ import tweety.storage.Storage;
 import tweety.tasks.Event;
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
  * Command for creating event tasks in the Tweety application.
  * Creates a new event task with a description, start time, and end time, then adds it to the task list.
  */
-public class EventCommand extends Command {
+public class EventCommand extends TaskListCommand {
 
     private String description;
     private String from;
@@ -39,8 +42,9 @@ public class EventCommand extends Command {
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
         Task newTask = new Event(description, from, to);
         tasks.addTask(newTask);
+        tasks.recordEdit(UndoableEdit.add(List.of(newTask)));
         storage.saveTasks(tasks);
-        ui.printAddedTask(newTask, tasks.getTaskCount());
+        ui.printAddedTask(newTask, tasks.getTaskCount(), tasks.getPendingTaskCount());
     }
 
     @Override
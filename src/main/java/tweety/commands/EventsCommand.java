@@ -0,0 +1,46 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Command for listing the events taking place on a day or between two days in the Tweety application.
+ * Only events whose start and end are dates or times are found; events with free-text times are left out.
+ */
+public class EventsCommand extends TaskListCommand {
+    private LocalDate firstDay;
+    private LocalDate lastDay;
+
+    /**
+     * Constructs a new EventsCommand for the specified days.
+     *
+     * @param firstDay The first day of the period.
+     * @param lastDay The last day of the period, which is the first day for a single day.
+     */
+    public EventsCommand(LocalDate firstDay, LocalDate lastDay) {
+        super(CommandType.EVENTS);
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        List<Task> events = tasks.getEventsBetween(firstDay, lastDay);
+
+        ui.printEvents(events, getTaskNumbers(tasks, events), firstDay, lastDay);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
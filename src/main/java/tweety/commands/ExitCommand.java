@@ -3,6 +3,7 @@ package tweety.commands;
 import tweety.exceptions.TweetyException;
 
 import tweety.storage.Storage;
+import tweety.storage.Workspaces;
 
 import tweety.tasks.TaskList;
 
@@ -12,7 +13,7 @@ import tweety.ui.Ui;
  * Command for exiting the Tweety application.
  * Terminates the application and displays a farewell message to the user.
  */
-public class ExitCommand extends Command{
+public class ExitCommand extends TaskListCommand{
 
     /**
      * Constructs a new ExitCommand.
@@ -25,10 +26,18 @@ public class ExitCommand extends Command{
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
         storage.saveTasks(tasks);
+        storage.flush();
 
         ui.printExitMessage();
     }
 
+    @Override
+    public void execute(Workspaces workspaces, Ui ui) throws TweetyException {
+        // The other lists were saved by their own commands, but their writes may still be pending
+        workspaces.flush();
+        super.execute(workspaces, ui);
+    }
+
     @Override
     public boolean isExit() {
         return true;
@@ -0,0 +1,42 @@
+package tweety.commands;
+
+import java.nio.file.Paths;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for exporting the task list to a CSV or JSON file in the Tweety application.
+ * The task list itself is left unchanged.
+ */
+public class ExportCommand extends TaskListCommand {
+
+    private String fileName;
+
+    /**
+     * Constructs a new ExportCommand for the specified file.
+     *
+     * @param fileName The CSV or JSON file to export the tasks to.
+     */
+    public ExportCommand(String fileName) {
+        super(CommandType.EXPORT);
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        int exportedCount = storage.exportTasks(tasks, Paths.get(fileName));
+
+        ui.printExportedTasks(exportedCount, fileName);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
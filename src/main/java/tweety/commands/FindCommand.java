@@ -9,13 +9,13 @@ import tweety.tasks.TaskList;
 
 import tweety.ui.Ui;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Command for finding tasks that match a keyword in the Tweety application.
  * Searches through the task list and displays tasks containing the specified keyword.
  */
-public class FindCommand extends Command{
+public class FindCommand extends TaskListCommand{
     private String keyword;
 
     /**
@@ -30,16 +30,9 @@ public class FindCommand extends Command{
 
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
-        ArrayList<Task> matchingTasks = new ArrayList<>();
-        for (int i = 0; i < tasks.getTaskCount(); i++) {
-            Task task = tasks.getTask(i);
-            if (task.getDescription().toLowerCase().contains(keyword.toLowerCase())) {
-                matchingTasks.add(task);
-            }
-        }
-        TaskList matchedTaskList = new TaskList(matchingTasks);
-
-        ui.printFindTask(matchedTaskList);
+        List<Task> matchingTasks = tasks.findTasks(keyword);
+
+        ui.printFindTask(matchingTasks);
     }
 
     @Override
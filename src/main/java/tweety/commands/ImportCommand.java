@@ -0,0 +1,50 @@
+package tweety.commands;
+
+import java.nio.file.Paths;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.ImportResult;
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for importing tasks from a CSV or JSON file in the Tweety application.
+ * Adds every task in the file to the end of the task list, then saves the list once.
+ */
+public class ImportCommand extends TaskListCommand {
+
+    private String fileName;
+
+    /**
+     * Constructs a new ImportCommand for the specified file.
+     *
+     * @param fileName The CSV or JSON file to import the tasks from.
+     */
+    public ImportCommand(String fileName) {
+        super(CommandType.IMPORT);
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        int countBefore = tasks.getTaskCount();
+        ImportResult result = storage.importTasks(Paths.get(fileName), tasks);
+        if (tasks.getTaskCount() > countBefore) {
+            tasks.recordEdit(UndoableEdit.add(tasks.getTasks(countBefore + 1, tasks.getTaskCount())));
+        }
+
+        storage.saveTasks(tasks);
+
+        ui.printImportedTasks(result.getImportedCount(), result.getSkippedCount(), tasks.getTaskCount());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
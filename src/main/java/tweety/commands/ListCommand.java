@@ -4,15 +4,29 @@ import tweety.exceptions.TweetyException;
 
 import tweety.storage.Storage;
 
+import tweety.tasks.Task;
 import tweety.tasks.TaskList;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
- * Command for displaying all tasks in the Tweety application.
- * Shows the complete list of tasks with their current status and details.
+ * Command for displaying tasks in the Tweety application.
+ * Shows the complete list of tasks, one page of it, a range of task numbers, or only the completed
+ * or pending tasks, with their current status and details.
  */
-public class ListCommand extends Command {
+public class ListCommand extends TaskListCommand {
+    /** The number of tasks on each page of {@code list page N}. */
+    public static final int PAGE_SIZE = 50;
+
+    private boolean isPaged;
+    private int page;
+    private boolean isRanged;
+    private int startTaskNumber;
+    private int endTaskNumber;
+    private boolean isFilteredByStatus;
+    private boolean isCompleted;
 
     /**
      * Constructs a new ListCommand.
@@ -22,10 +36,59 @@ public class ListCommand extends Command {
         super(CommandType.LIST);
     }
 
+    /**
+     * Constructs a new ListCommand displaying one page of {@link #PAGE_SIZE} tasks.
+     *
+     * @param page The 1-based number of the page to display.
+     */
+    public ListCommand(int page) {
+        this();
+        this.isPaged = true;
+        this.page = page;
+    }
+
+    /**
+     * Constructs a new ListCommand displaying the tasks from one task number to another.
+     *
+     * @param startTaskNumber The 1-based index of the first task to display.
+     * @param endTaskNumber The 1-based index of the last task to display, inclusive.
+     */
+    public ListCommand(int startTaskNumber, int endTaskNumber) {
+        this();
+        this.isRanged = true;
+        this.startTaskNumber = startTaskNumber;
+        this.endTaskNumber = endTaskNumber;
+    }
+
+    /**
+     * Constructs a new ListCommand displaying only the completed tasks, or only the pending ones.
+     *
+     * @param isCompleted Whether to display the completed tasks rather than the pending ones.
+     */
+    public ListCommand(boolean isCompleted) {
+        this();
+        this.isFilteredByStatus = true;
+        this.isCompleted = isCompleted;
+    }
+
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
-        if (tasks.getAllTasks().isEmpty()) {
+        int taskCount = tasks.getTaskCount();
+        if (taskCount == 0) {
             ui.printNoTaskLeft();
+        } else if (isFilteredByStatus) {
+            List<Task> matchingTasks = tasks.getTasksWithStatus(isCompleted);
+            ui.printTasksWithStatus(matchingTasks, getTaskNumbers(tasks, matchingTasks), isCompleted);
+        } else if (isPaged) {
+            int pageCount = (taskCount + PAGE_SIZE - 1) / PAGE_SIZE;
+            if (page < 1 || page > pageCount) {
+                throw new TweetyException("Aww, hon, please give me a page number from 1 to " + pageCount + "!");
+            }
+            int start = (page - 1) * PAGE_SIZE + 1;
+            int end = Math.min(page * PAGE_SIZE, taskCount);
+            ui.printTaskRange(tasks.getTasks(start, end), start, taskCount);
+        } else if (isRanged) {
+            ui.printTaskRange(tasks.getTasks(startTaskNumber, endTaskNumber), startTaskNumber, taskCount);
         } else {
             ui.printTaskList(tasks);
         }
@@ -0,0 +1,31 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Workspaces;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for listing every named task list in the Tweety application, marking the current one.
+ * Lists are found by their files, so listing them does not load any list that is not already in memory.
+ */
+public class ListsCommand extends Command {
+
+    /**
+     * Constructs a new ListsCommand.
+     */
+    public ListsCommand() {
+        super(CommandType.LISTS);
+    }
+
+    @Override
+    public void execute(Workspaces workspaces, Ui ui) throws TweetyException {
+        ui.printLists(workspaces.getListNames(), workspaces.getCurrentName());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -6,15 +6,20 @@ import tweety.storage.Storage;
 
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.TaskSelection;
+import tweety.tasks.UndoableEdit;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
  * Command for marking tasks as completed in the Tweety application.
- * Marks the specified task as done and updates its status in the task list.
+ * Marks the specified task, or every selected task in one pass, as done and updates its status in the task list.
  */
-public class MarkCommand extends Command {
+public class MarkCommand extends TaskListCommand {
     private int taskNumber;
+    private TaskSelection selection;
 
     /**
      * Constructs a new MarkCommand with the specified task number.
@@ -26,9 +31,33 @@ public class MarkCommand extends Command {
         this.taskNumber = taskNumber;
     }
 
+    /**
+     * Constructs a new MarkCommand marking every selected task at once.
+     *
+     * @param selection The tasks to mark as completed.
+     */
+    public MarkCommand(TaskSelection selection) {
+        super(CommandType.MARK);
+        this.selection = selection;
+    }
+
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        if (selection != null) {
+            // Only the tasks whose status actually changes need to change back on undo
+            List<Task> changedTasks = selectTasksWithStatus(tasks, selection, false);
+            List<Task> markedTasks = requireAnySelected(tasks.markTasks(selection));
+            tasks.recordEdit(UndoableEdit.mark(markedTasks, changedTasks));
+
+            storage.saveTasks(tasks);
+
+            ui.printMarkedTasks(markedTasks);
+            return;
+        }
+
+        boolean wasCompleted = tasks.retrieveTask(taskNumber).isCompleted();
         Task markedTask = tasks.markTask(taskNumber);
+        tasks.recordEdit(UndoableEdit.mark(List.of(markedTask), wasCompleted ? List.of() : List.of(markedTask)));
 
         storage.saveTasks(tasks);
 
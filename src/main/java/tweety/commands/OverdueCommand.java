@@ -0,0 +1,39 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Command for listing the overdue deadlines in the Tweety application.
+ * Displays every deadline that is not done yet and was due before today.
+ */
+public class OverdueCommand extends TaskListCommand {
+
+    /**
+     * Constructs a new OverdueCommand.
+     */
+    public OverdueCommand() {
+        super(CommandType.OVERDUE);
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        List<Task> overdueTasks = tasks.getOverdueDeadlines(LocalDate.now());
+
+        ui.printOverdueTasks(overdueTasks, getTaskNumbers(tasks, overdueTasks));
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -4,18 +4,19 @@ import tweety.exceptions.EmtpyDescriptionException;
 import tweety.exceptions.TweetyException;
 import tweety.exceptions.InvalidInputFormatException;
 
+import tweety.tasks.TaskSelection;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 /**
  * Parses user input strings into Command objects for the Tweety application.
- * Handles various command types including mark, unmark, delete, list, bye, find, todo, deadline, and event commands.
+ * Handles various command types including mark, unmark, delete, list, bye, find, todo, deadline, event, edit,
+ * stats, count, import, export, due, overdue, events, conflicts, undo, redo, switch and lists commands.
+ * The input is read once by a {@link CommandTokenizer}, and every command is parsed from the spans it finds.
  */
 public class Parser {
 
-    private static final int TODO_COMMAND_LENGTH = 4;
-    private static final int EVENT_COMMAND_LENGTH = 5;
-    private static final int DEADLINE_COMMAND_LENGTH = 8;
-    private static final int FIND_COMMAND_LENGTH = 4;
-    private static final int EDIT_COMMAND_LENGTH = 4;
-
     private static final String MARK_COMMAND = "mark";
     private static final String UNMARK_COMMAND = "unmark";
     private static final String DELETE_COMMAND = "delete";
@@ -26,6 +27,37 @@ public class Parser {
     private static final String EVENT_COMMAND = "event";
     private static final String FIND_COMMAND = "find";
     private static final String EDIT_COMMAND = "edit";
+    private static final String STATS_COMMAND = "stats";
+    private static final String COUNT_COMMAND = "count";
+    private static final String IMPORT_COMMAND = "import";
+    private static final String EXPORT_COMMAND = "export";
+    private static final String DUE_COMMAND = "due";
+    private static final String OVERDUE_COMMAND = "overdue";
+    private static final String EVENTS_COMMAND = "events";
+    private static final String CONFLICTS_COMMAND = "conflicts";
+    private static final String UNDO_COMMAND = "undo";
+    private static final String REDO_COMMAND = "redo";
+    private static final String SWITCH_COMMAND = "switch";
+    private static final String LISTS_COMMAND = "lists";
+
+    private static final String LIST_PAGE = "page";
+    private static final String LIST_DONE = "done";
+    private static final String LIST_PENDING = "pending";
+    private static final String BY_MARKER = "/by";
+    private static final String FROM_MARKER = "/from";
+    private static final String TO_MARKER = "/to";
+
+    private static final String TODAY = "today";
+    private static final String EVENTS_ON = "on";
+    private static final String EVENTS_BETWEEN = "between";
+    private static final String PERIOD_SEPARATOR = " and ";
+    private static final String DONE_SELECTION = "done";
+    private static final char SELECTION_SEPARATOR = ',';
+    private static final char RANGE_SEPARATOR = '-';
+
+    private static final String DEADLINE_EXAMPLE = "deadline borrow book /by yyyy-mm-dd";
+    private static final String EVENT_EXAMPLE = "event project meeting /from Mon 2pm /to 4pm";
+    private static final String EVENTS_EXAMPLE = "events on 2025-10-01, or events between 2025-10-01 and 2025-10-07";
 
     /**
      * Parses the user input string and returns the corresponding Command object.
@@ -37,8 +69,8 @@ public class Parser {
      */
     public Command parseCommand(String userInput) throws TweetyException {
         validateInput(userInput);
-        String command = extractCommand(userInput);
-        return createCommand(command, userInput);
+        CommandTokenizer tokens = new CommandTokenizer(userInput);
+        return createCommand(tokens.getCommand(), tokens);
     }
 
     /**
@@ -53,48 +85,61 @@ public class Parser {
         assert !userInput.trim().isEmpty() : "userInput should not be empty after trimming";
     }
 
-    /**
-     * Helper to extract the command type from the user input string.
-     * The command is the first word in the input before any spaces.
-     *
-     * @param userInput The raw user input string.
-     * @return A string representing the command extracted from the user input.
-     */
-    private String extractCommand(String userInput) {
-        return userInput.trim().split(" ")[0];
-    }
-
     /**
      * Helper to create a corresponding Command object based on the extracted command string.
      * Delegates to specific parsing methods depending on the command type.
      *
      * @param command The command type extracted from the user input.
-     * @param userInput The raw user input string.
+     * @param tokens The tokenized user input.
      * @return A Command object corresponding to the command type.
      * @throws TweetyException If the command is invalid or cannot be parsed.
      */
-    private Command createCommand(String command, String userInput) throws TweetyException {
+    private Command createCommand(String command, CommandTokenizer tokens) throws TweetyException {
         switch (command) {
             case MARK_COMMAND:
-                return parseMarkCommand(userInput);
+                return parseMarkCommand(tokens);
             case UNMARK_COMMAND:
-                return parseUnmarkCommand(userInput);
+                return parseUnmarkCommand(tokens);
             case DELETE_COMMAND:
-                return parseDeleteCommand(userInput);
+                return parseDeleteCommand(tokens);
             case LIST_COMMAND:
-                return new ListCommand();
+                return parseListCommand(tokens);
             case BYE_COMMAND:
                 return new ExitCommand();
             case TODO_COMMAND:
-                return parseTodoCommand(userInput);
+                return parseTodoCommand(tokens);
             case DEADLINE_COMMAND:
-                return parseDeadlineCommand(userInput);
+                return parseDeadlineCommand(tokens);
             case EVENT_COMMAND:
-                return parseEventCommand(userInput);
+                return parseEventCommand(tokens);
             case FIND_COMMAND:
-                return parseFindCommand(userInput);
+                return parseFindCommand(tokens);
             case EDIT_COMMAND:
-                return parseEditCommand(userInput);
+                return parseEditCommand(tokens);
+            case STATS_COMMAND:
+                return new StatsCommand();
+            case COUNT_COMMAND:
+                return new CountCommand();
+            case IMPORT_COMMAND:
+                return new ImportCommand(getFileName(tokens, IMPORT_COMMAND));
+            case EXPORT_COMMAND:
+                return new ExportCommand(getFileName(tokens, EXPORT_COMMAND));
+            case DUE_COMMAND:
+                return parseDueCommand(tokens);
+            case OVERDUE_COMMAND:
+                return new OverdueCommand();
+            case EVENTS_COMMAND:
+                return parseEventsCommand(tokens);
+            case CONFLICTS_COMMAND:
+                return new ConflictsCommand();
+            case UNDO_COMMAND:
+                return new UndoCommand();
+            case REDO_COMMAND:
+                return new RedoCommand();
+            case SWITCH_COMMAND:
+                return parseSwitchCommand(tokens);
+            case LISTS_COMMAND:
+                return new ListsCommand();
             default:
                 throw new TweetyException("Oopsie, hon! Invalid command. Please try again.");
         }
@@ -102,38 +147,83 @@ public class Parser {
 
     /**
      * Parses a mark command and extracts the task number.
-     * Expected format: "mark [task_number]"
+     * Expected format: "mark [task_number]", or "mark [selection]" for several tasks at once,
+     * where the selection is "done" or a comma-separated list of task numbers and ranges such as "1,4-9".
      *
-     * @param userInput The user input string containing the mark command.
+     * @param tokens The tokenized user input containing the mark command.
      * @return A Command object with MARK type and task number set.
      * @throws TweetyException If the task number is invalid or missing.
      */
-    private Command parseMarkCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        int taskNumber = getTaskNumber(userInput);
+    private Command parseMarkCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+        if (isBulkSelection(tokens)) {
+            return new MarkCommand(parseTaskSelection(tokens));
+        }
+
+        int taskNumber = getTaskNumber(tokens);
         return new MarkCommand(taskNumber);
     }
 
+    /**
+     * Parses a list command and extracts the page or range of tasks to display, if any.
+     * Expected format: "list", "list done", "list pending", "list page [page_number]"
+     * or "list [start_task_number]-[end_task_number]"
+     *
+     * @param tokens The tokenized user input containing the list command.
+     * @return A ListCommand object for the whole list, the completed or pending tasks, a page or a range of tasks.
+     * @throws TweetyException If the page or range is not made of valid integers.
+     */
+    private Command parseListCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+
+        if (!tokens.hasArgument()) {
+            return new ListCommand();
+        } else if (tokens.isArgument(LIST_DONE)) {
+            return new ListCommand(true);
+        } else if (tokens.isArgument(LIST_PENDING)) {
+            return new ListCommand(false);
+        }
+
+        int argumentStart = tokens.getArgumentStart();
+        int argumentEnd = tokens.getArgumentEnd();
+        try {
+            int wordEnd = tokens.findWhitespace(argumentStart);
+            if (wordEnd >= 0 && tokens.matches(argumentStart, wordEnd, LIST_PAGE)) {
+                return new ListCommand(tokens.parseInt(tokens.skipWhitespace(wordEnd), argumentEnd));
+            }
+
+            int separator = tokens.indexOf(RANGE_SEPARATOR, argumentStart, argumentEnd);
+            if (separator >= 0) {
+                return new ListCommand(tokens.parseInt(argumentStart, separator),
+                        tokens.parseInt(separator + 1, argumentEnd));
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the format hint below
+        }
+        throw new InvalidInputFormatException("list page 2, list 100-200, list done or list pending", LIST_COMMAND);
+    }
+
     /**
      * Parses an edit command and extracts the task number, field, and new value.
      * Expected format: "edit [task_number] [field] [new_value]"
      *
-     * @param userInput The user input string containing the edit command.
+     * @param tokens The tokenized user input containing the edit command.
      * @return An EditCommand object with the task number, field and new value set.
      * @throws TweetyException If the task number is invalid, format is incorrect or required parameters are missing.
      */
-    private Command parseEditCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        assert userInput.startsWith("edit") : "userInput should start with 'edit'";
-
-        String descriptions = getDescription(userInput, EDIT_COMMAND_LENGTH);
-        String[] parts = descriptions.split("\\s+", 3);
+    private Command parseEditCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
 
-        validateEditFormat(parts);
+        int argumentStart = tokens.getArgumentStart();
+        int taskNumberEnd = tokens.findWhitespace(argumentStart);
+        validateEditFormat(taskNumberEnd);
+        int fieldStart = tokens.skipWhitespace(taskNumberEnd);
+        int fieldEnd = tokens.findWhitespace(fieldStart);
+        validateEditFormat(fieldEnd);
 
-        int taskNumber = parseTaskNumberFromParts(parts[0]);
-        String field = parts[1].trim();
-        String newValue = parts[2].trim();
+        int taskNumber = parseTaskNumberFromParts(tokens, argumentStart, taskNumberEnd);
+        String field = tokens.getSpan(fieldStart, fieldEnd);
+        String newValue = tokens.getSpan(tokens.skipWhitespace(fieldEnd), tokens.getArgumentEnd());
 
         return new EditCommand(taskNumber, field, newValue);
     }
@@ -142,26 +232,28 @@ public class Parser {
      * Helper to validate the format of the edit command by ensuring it has at least 3 parts:
      * task number, field, and new value.
      *
-     * @param parts An array of strings containing the parts of the edit command.
+     * @param partEnd The end of the task number or field part, or -1 if no further part follows it.
      * @throws TweetyException If the format is incorrect (fewer than 3 parts).
      */
-    private void validateEditFormat(String[] parts) throws TweetyException {
-        if (parts.length < 3) {
+    private void validateEditFormat(int partEnd) throws TweetyException {
+        if (partEnd < 0) {
             throw new InvalidInputFormatException("edit <task number> <field> <newValue>\n" +
                     "Valid fields are : description, deadline, from, to. ", EDIT_COMMAND);
         }
     }
 
     /**
-     * Helper to parse the task number from the given string and converts it to an integer.
+     * Helper to parse the task number of an edit command and converts it to an integer.
      *
-     * @param taskNumberStr The string representing the task number.
+     * @param tokens The tokenized user input containing the edit command.
+     * @param start The position of the task number in the input.
+     * @param end The position after the task number in the input.
      * @return The parsed task number as an integer.
      * @throws TweetyException If the task number is not a valid integer.
      */
-    private int parseTaskNumberFromParts(String taskNumberStr) throws TweetyException {
+    private int parseTaskNumberFromParts(CommandTokenizer tokens, int start, int end) throws TweetyException {
         try {
-            return Integer.parseInt(taskNumberStr);
+            return tokens.parseInt(start, end);
         } catch (NumberFormatException e) {
             throw new InvalidInputFormatException("Task number must be a valid integer", EDIT_COMMAND);
         }
@@ -169,55 +261,54 @@ public class Parser {
 
     /**
      * Parses an unmark command and extracts the task number.
-     * Expected format: "unmark [task_number]"
+     * Expected format: "unmark [task_number]", or "unmark [selection]" for several tasks at once,
+     * where the selection is "done" or a comma-separated list of task numbers and ranges such as "1,4-9".
      *
-     * @param userInput The user input string containing the unmark command.
+     * @param tokens The tokenized user input containing the unmark command.
      * @return A Command object with UNMARK type and task number set.
      * @throws TweetyException If the task number is invalid or missing.
      */
-    private Command parseUnmarkCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        int taskNumber = getTaskNumber(userInput);
+    private Command parseUnmarkCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+        if (isBulkSelection(tokens)) {
+            return new UnmarkCommand(parseTaskSelection(tokens));
+        }
+
+        int taskNumber = getTaskNumber(tokens);
         return new UnmarkCommand(taskNumber);
     }
 
     /**
      * Parses a delete command and extracts the task number.
-     * Expected format: "delete [task_number]"
+     * Expected format: "delete [task_number]", or "delete [selection]" for several tasks at once,
+     * where the selection is "done" or a comma-separated list of task numbers and ranges such as "1,4-9".
      *
-     * @param userInput The user input string containing the delete command.
+     * @param tokens The tokenized user input containing the delete command.
      * @return A Command object with DELETE type and task number set.
      * @throws TweetyException If the task number is invalid or missing.
      */
-    private Command parseDeleteCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        int taskNumber = getTaskNumber(userInput);
-        return new DeleteCommand(taskNumber);
-    }
+    private Command parseDeleteCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+        if (isBulkSelection(tokens)) {
+            return new DeleteCommand(parseTaskSelection(tokens));
+        }
 
-    /**
-     * Helper method to extract the descriptions of task
-     *
-     * @param userInput The user input string
-     * @return A string that is trimmed to only include descriptions of the task
-     *
-     */
-    private String getDescription(String userInput, int commandLength) {
-        return userInput.substring(commandLength).trim();
+        int taskNumber = getTaskNumber(tokens);
+        return new DeleteCommand(taskNumber);
     }
 
     /**
      * Parses a todo command and extracts the task description.
      * Expected format: "todo [description]"
      *
-     * @param userInput The user input string containing the todo command.
+     * @param tokens The tokenized user input containing the todo command.
      * @return A Command object with TODO type and description set.
      * @throws TweetyException If the description is empty or missing.
      */
-    private Command parseTodoCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
+    private Command parseTodoCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
 
-        String description = getDescription(userInput, TODO_COMMAND_LENGTH);
+        String description = tokens.getArgument();
         if (description.isEmpty()) {
             throw new EmtpyDescriptionException("todo borrow book", TODO_COMMAND);
         }
@@ -244,36 +335,34 @@ public class Parser {
      * Parses a deadline command and extracts description and due date.
      * Expected format: "deadline [description] /by [date]"
      *
-     * @param userInput The user input string containing the deadline command.
+     * @param tokens The tokenized user input containing the deadline command.
      * @return A Command object with DEADLINE type, description, and due date set.
      * @throws TweetyException If the format is invalid, description is empty, or /by is missing.
      */
-    private Command parseDeadlineCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        assert userInput.startsWith("deadline") : "userInput should start with 'deadline'";
+    private Command parseDeadlineCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
 
-        validateDeadlineLength(userInput);
-        String descriptions = getDescription(userInput, DEADLINE_COMMAND_LENGTH);
-        validateDeadlineFormat(userInput);
+        validateDeadlineLength(tokens);
+        int byIndex = tokens.indexOf(BY_MARKER, tokens.getArgumentStart());
+        validateDeadlineFormat(byIndex);
 
-        String[] parts = descriptions.split("/by", 2);
-        String description = parts[0].trim();
-        validateDescriptionNotEmpty(description, "deadline borrow book /by yyyy-mm-dd", DEADLINE_COMMAND);
+        String description = tokens.getSpan(tokens.getArgumentStart(), byIndex);
+        validateDescriptionNotEmpty(description, DEADLINE_EXAMPLE, DEADLINE_COMMAND);
 
-        String by = parts[1].trim();
+        String by = tokens.getSpan(byIndex + BY_MARKER.length(), tokens.getArgumentEnd());
         return new DeadlineCommand(description, by);
     }
 
     /**
-     * Helper to validate the length of the deadline input to ensure that the description is not too short.
-     * Throws an exception if the description is too short (8 characters or fewer).
+     * Helper to validate that the deadline input does not end right after the command word.
+     * Input with only whitespace after the command word is reported as badly formatted instead.
      *
-     * @param userInput The raw user input string containing the deadline command.
-     * @throws TweetyException If the input description is too short.
+     * @param tokens The tokenized user input containing the deadline command.
+     * @throws TweetyException If nothing follows the command word.
      */
-    private void validateDeadlineLength(String userInput) throws TweetyException {
-        if (userInput.length() <= 8) {
-            throw new EmtpyDescriptionException("deadline borrow book /by yyyy-mm-dd", DEADLINE_COMMAND);
+    private void validateDeadlineLength(CommandTokenizer tokens) throws TweetyException {
+        if (tokens.endsAtCommand()) {
+            throw new EmtpyDescriptionException(DEADLINE_EXAMPLE, DEADLINE_COMMAND);
         }
     }
 
@@ -281,12 +370,12 @@ public class Parser {
      * Helper to validate the format of the deadline input to ensure that it contains the "/by" keyword.
      * Throws an exception if the input does not contain "/by" to indicate the deadline date.
      *
-     * @param userInput The raw user input string containing the deadline command.
+     * @param byIndex The position of "/by" in the input, or -1 if it is missing.
      * @throws TweetyException If the input does not contain "/by" in the expected format.
      */
-    private void validateDeadlineFormat(String userInput) throws TweetyException {
-        if (!userInput.contains("/by")) {
-            throw new InvalidInputFormatException("deadline borrow book /by yyyy-mm-dd", DEADLINE_COMMAND);
+    private void validateDeadlineFormat(int byIndex) throws TweetyException {
+        if (byIndex < 0) {
+            throw new InvalidInputFormatException(DEADLINE_EXAMPLE, DEADLINE_COMMAND);
         }
     }
 
@@ -294,52 +383,55 @@ public class Parser {
     /**
      * Parses an event command and extracts description, start time, and end time.
      * Expected format: "event [description] /from [start_time] /to [end_time]"
+     * The start time runs from "/from" up to "/to" and the end time from "/to" to the end of the input,
+     * or up to "/from" if the end time is given first. A word such as "/tomorrow" is part of a time, not a marker.
      *
-     * @param userInput The user input string containing the event command.
+     * @param tokens The tokenized user input containing the event command.
      * @return A Command object with EVENT type, description, start time, and end time set.
-     * @throws TweetyException If the format is invalid, description is empty, or /from or /to is missing.
+     * @throws TweetyException If the format is invalid, description is empty, /from or /to is missing, or /to is empty.
      */
-    private Command parseEventCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        assert userInput.startsWith("event") : "userInput should start with 'event'";
+    private Command parseEventCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
 
-        validateEventLength(userInput);
-        String descriptions = getDescription(userInput, EVENT_COMMAND_LENGTH);
-        validateEventFormat(userInput);
+        validateEventLength(tokens);
+        int fromIndex = tokens.indexOfMarker(FROM_MARKER, tokens.getArgumentStart());
+        int toIndex = tokens.indexOfMarker(TO_MARKER, tokens.getArgumentStart());
+        validateEventFormat(fromIndex >= 0 && toIndex >= 0);
 
-        String[] parts = descriptions.split("/from|/to");
-        String description = parts[0].trim();
-        validateDescriptionNotEmpty(description, "event project meeting /from Mon 2pm /to 4pm", EVENT_COMMAND);
+        String description = tokens.getSpan(tokens.getArgumentStart(), Math.min(fromIndex, toIndex));
+        validateDescriptionNotEmpty(description, EVENT_EXAMPLE, EVENT_COMMAND);
 
-        String from = parts[1].trim();
-        String to = parts[2].trim();
+        int argumentEnd = tokens.getArgumentEnd();
+        String from = tokens.getSpan(fromIndex + FROM_MARKER.length(), toIndex > fromIndex ? toIndex : argumentEnd);
+        String to = tokens.getSpan(toIndex + TO_MARKER.length(), fromIndex > toIndex ? fromIndex : argumentEnd);
+        validateEventFormat(!to.isEmpty());
 
         return new EventCommand(description, from, to);
     }
 
     /**
-     * Helper to validate the length of the event input to ensure that the description is not too short.
-     * Throws an exception if the description is too short (5 characters or fewer).
+     * Helper to validate that the event input does not end right after the command word.
+     * Input with only whitespace after the command word is reported as badly formatted instead.
      *
-     * @param userInput The raw user input string containing the event command.
-     * @throws TweetyException If the input description is too short.
+     * @param tokens The tokenized user input containing the event command.
+     * @throws TweetyException If nothing follows the command word.
      */
-    private void validateEventLength(String userInput) throws TweetyException {
-        if (userInput.length() <= 5) {
-            throw new EmtpyDescriptionException("event project meeting /from Mon 2pm /to 4pm", EVENT_COMMAND);
+    private void validateEventLength(CommandTokenizer tokens) throws TweetyException {
+        if (tokens.endsAtCommand()) {
+            throw new EmtpyDescriptionException(EVENT_EXAMPLE, EVENT_COMMAND);
         }
     }
 
     /**
-     * Helper to validate the format of the event input to ensure that it contains the "/from" and "/to" keywords.
-     * Throws an exception if the input does not contain both "/from" and "/to" to indicate the event's time range.
+     * Helper to validate the format of the event input to ensure that it has a "/from" and a "/to" part.
+     * Throws an exception if either is missing, since both are needed to give the event's time range.
      *
-     * @param userInput The raw user input string containing the event command.
-     * @throws TweetyException If the input does not contain both "/from" and "/to" in the expected format.
+     * @param hasTimeRange Whether the input has both the "/from" and the "/to" part.
+     * @throws TweetyException If the input does not have both parts in the expected format.
      */
-    private void validateEventFormat(String userInput) throws TweetyException {
-        if (!userInput.contains("/from") || !userInput.contains("/to")) {
-            throw new InvalidInputFormatException("event project meeting /from Mon 2pm /to 4pm", EVENT_COMMAND);
+    private void validateEventFormat(boolean hasTimeRange) throws TweetyException {
+        if (!hasTimeRange) {
+            throw new InvalidInputFormatException(EVENT_EXAMPLE, EVENT_COMMAND);
         }
     }
 
@@ -347,13 +439,13 @@ public class Parser {
      * Parses a find command and extracts the search keyword.
      * Expected format: "find [keyword]"
      *
-     * @param userInput The user input string containing the find command.
+     * @param tokens The tokenized user input containing the find command.
      * @return A FindCommand object with the search keyword set.
      * @throws TweetyException If the keyword is empty or missing.
      */
-    private Command parseFindCommand(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
-        String keyword = getDescription(userInput, FIND_COMMAND_LENGTH);
+    private Command parseFindCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+        String keyword = tokens.getArgument();
 
         if (keyword.isEmpty()) {
             throw new InvalidInputFormatException("find read", FIND_COMMAND);
@@ -362,21 +454,170 @@ public class Parser {
         return new FindCommand(keyword);
     }
 
+    /**
+     * Parses a due command and extracts the last due date to include.
+     * Expected format: "due [yyyy-mm-dd]" or "due today"
+     *
+     * @param tokens The tokenized user input containing the due command.
+     * @return A DueCommand object with the date set.
+     * @throws TweetyException If the date is missing or not a valid date.
+     */
+    private Command parseDueCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+
+        LocalDate lastDay = parseDay(tokens.getArgument());
+        if (lastDay == null) {
+            throw new InvalidInputFormatException("due 2025-09-30, or due today", DUE_COMMAND);
+        }
+        return new DueCommand(lastDay);
+    }
+
+    /**
+     * Parses an events command and extracts the days to list the events of.
+     * Expected format: "events on [date]" or "events between [date] and [date]",
+     * where a date is yyyy-mm-dd or "today". The two days of a period may be given in either order.
+     *
+     * @param tokens The tokenized user input containing the events command.
+     * @return An EventsCommand object with the first and last day set.
+     * @throws TweetyException If the format is invalid or a date is not a valid date.
+     */
+    private Command parseEventsCommand(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
+
+        int argumentStart = tokens.getArgumentStart();
+        int argumentEnd = tokens.getArgumentEnd();
+        int wordEnd = tokens.findWhitespace(argumentStart);
+        if (wordEnd >= 0 && tokens.matches(argumentStart, wordEnd, EVENTS_ON)) {
+            LocalDate day = parseDay(tokens.getSpan(wordEnd, argumentEnd));
+            if (day != null) {
+                return new EventsCommand(day, day);
+            }
+        } else if (wordEnd >= 0 && tokens.matches(argumentStart, wordEnd, EVENTS_BETWEEN)) {
+            int separator = tokens.indexOf(PERIOD_SEPARATOR, wordEnd);
+            if (separator >= 0) {
+                LocalDate firstDay = parseDay(tokens.getSpan(wordEnd, separator));
+                LocalDate lastDay = parseDay(tokens.getSpan(separator + PERIOD_SEPARATOR.length(), argumentEnd));
+                if (firstDay != null && lastDay != null) {
+                    return firstDay.isAfter(lastDay)
+                            ? new EventsCommand(lastDay, firstDay)
+                            : new EventsCommand(firstDay, lastDay);
+                }
+            }
+        }
+        throw new InvalidInputFormatException(EVENTS_EXAMPLE, EVENTS_COMMAND);
+    }
+
+    /**
+     * Helper to parse a day given as yyyy-mm-dd or as "today".
+     *
+     * @param text The trimmed text of the day.
+     * @return The day, or null if the text is not a valid date.
+     */
+    private LocalDate parseDay(String text) {
+        if (text.equals(TODAY)) {
+            return LocalDate.now();
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Helper to extract the file name of an import or export command.
+     * Expected format: "import [file_name]" or "export [file_name]", where the file ends in .csv or .json
+     *
+     * @param tokens The tokenized user input containing the import or export command.
+     * @param command The name of the command, for the error message.
+     * @return The file name.
+     * @throws TweetyException If the file name is missing.
+     */
+    private String getFileName(CommandTokenizer tokens, String command) throws TweetyException {
+        if (!tokens.hasArgument()) {
+            throw new InvalidInputFormatException(command + " tasks.csv, or " + command + " tasks.json", command);
+        }
+        return tokens.getArgument();
+    }
+
+    /**
+     * Parses a switch command and extracts the name of the list to switch to.
+     * Expected format: "switch [list_name]"
+     *
+     * @param tokens The tokenized user input containing the switch command.
+     * @return A SwitchCommand object for the named list.
+     * @throws TweetyException If the list name is missing.
+     */
+    private Command parseSwitchCommand(CommandTokenizer tokens) throws TweetyException {
+        if (!tokens.hasArgument()) {
+            throw new InvalidInputFormatException("switch work", SWITCH_COMMAND);
+        }
+        return new SwitchCommand(tokens.getArgument());
+    }
+
+    /**
+     * Helper to check whether a command argument selects several tasks rather than a single task number.
+     *
+     * @param tokens The tokenized mark, unmark or delete command.
+     * @return True if the argument is "done", a list or a range, false otherwise.
+     */
+    private boolean isBulkSelection(CommandTokenizer tokens) {
+        int argumentStart = tokens.getArgumentStart();
+        int argumentEnd = tokens.getArgumentEnd();
+        return tokens.isArgument(DONE_SELECTION)
+                || tokens.indexOf(SELECTION_SEPARATOR, argumentStart, argumentEnd) >= 0
+                || tokens.indexOf(RANGE_SEPARATOR, argumentStart + 1, argumentEnd) > 0;
+    }
+
+    /**
+     * Parses a selection of tasks, such as "done", "3-50" or "1,4,9".
+     * Trailing separators are ignored, but an empty part in the middle of the list is not.
+     *
+     * @param tokens The tokenized command whose argument is the selection to parse.
+     * @return The parsed TaskSelection.
+     * @throws TweetyException If a task number in the selection is not a valid integer.
+     */
+    private TaskSelection parseTaskSelection(CommandTokenizer tokens) throws TweetyException {
+        if (tokens.isArgument(DONE_SELECTION)) {
+            return TaskSelection.completedTasks();
+        }
+
+        TaskSelection selection = new TaskSelection();
+        int selectionEnd = tokens.stripTrailing(SELECTION_SEPARATOR);
+        int partStart = tokens.getArgumentStart();
+        try {
+            while (partStart < selectionEnd) {
+                int partEnd = tokens.indexOf(SELECTION_SEPARATOR, partStart, selectionEnd);
+                if (partEnd < 0) {
+                    partEnd = selectionEnd;
+                }
+
+                int separator = tokens.indexOf(RANGE_SEPARATOR, partStart, partEnd);
+                int start = tokens.parseInt(partStart, separator < 0 ? partEnd : separator);
+                int end = separator < 0 ? start : tokens.parseInt(separator + 1, partEnd);
+                selection.addRange(start, end);
+                partStart = partEnd + 1;
+            }
+        } catch (NumberFormatException e) {
+            throw new TweetyException("Invalid command format. Please specify a valid task number.");
+        }
+        return selection;
+    }
+
     /**
      * Extracts and parses the task number from user input.
      * Assumes the task number follows the command keyword separated by a space.
      *
-     * @param userInput The user input string containing a command with task number.
+     * @param tokens The tokenized command with task number.
      * @return The parsed task number as an integer.
      * @throws TweetyException If the task number is not a valid integer or is missing.
      */
-    private int getTaskNumber(String userInput) throws TweetyException {
-        assert userInput != null : "userInput should not be null";
+    private int getTaskNumber(CommandTokenizer tokens) throws TweetyException {
+        assert tokens != null : "tokens should not be null";
 
         try {
-            String taskNumber = userInput.substring(userInput.indexOf(" ") + 1).trim();
-            return Integer.parseInt(taskNumber);
-        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            return tokens.parseInt(tokens.getArgumentStart(), tokens.getArgumentEnd());
+        } catch (NumberFormatException e) {
             throw new TweetyException("Invalid command format. Please specify a valid task number.");
         }
     }
@@ -0,0 +1,41 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for redoing the latest undone change to the task list in the Tweety application.
+ * Changes can be redone until a new change is made, which forgets every change that could be redone.
+ */
+public class RedoCommand extends TaskListCommand {
+
+    /**
+     * Constructs a new RedoCommand.
+     */
+    public RedoCommand() {
+        super(CommandType.REDO);
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        UndoableEdit edit = tasks.redo();
+        if (edit == null) {
+            throw new TweetyException("Aww, hon, dere is nothing to redo!");
+        }
+
+        storage.saveTasks(tasks);
+
+        ui.printRedoneEdit(edit);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
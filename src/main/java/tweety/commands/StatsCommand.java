@@ -0,0 +1,34 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for displaying statistics about the task list in the Tweety application.
+ * Shows the number of tasks and the estimated memory used by the search indexes.
+ */
+public class StatsCommand extends TaskListCommand {
+
+    /**
+     * Constructs a new StatsCommand.
+     * Initialises the command with STATS type to display task list statistics.
+     */
+    public StatsCommand() {
+        super(CommandType.STATS);
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        ui.printStats(tasks.getTaskCount(), tasks.getIndexStats());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
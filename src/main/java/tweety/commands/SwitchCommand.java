@@ -0,0 +1,37 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Workspaces;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for switching to another named task list in the Tweety application.
+ * The list is read from its own file the first time it is used, and a new list starts out empty.
+ * Every later command works on the list switched to, until the next switch.
+ */
+public class SwitchCommand extends Command {
+    private String listName;
+
+    /**
+     * Constructs a new SwitchCommand with the specified list name.
+     *
+     * @param listName The name of the list to switch to.
+     */
+    public SwitchCommand(String listName) {
+        super(CommandType.SWITCH);
+        this.listName = listName;
+    }
+
+    @Override
+    public void execute(Workspaces workspaces, Ui ui) throws TweetyException {
+        workspaces.switchTo(listName);
+        ui.printSwitchedList(workspaces.getCurrentName(), workspaces.getCurrentTasks().getTaskCount());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
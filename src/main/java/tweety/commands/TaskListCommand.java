@@ -0,0 +1,104 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+import tweety.storage.Workspaces;
+
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+import tweety.tasks.TaskSelection;
+
+import tweety.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abstract base class for the commands that work on the tasks of a single list, which is the current list
+ * when the command is run by the application.
+ */
+public abstract class TaskListCommand extends Command {
+
+    /**
+     * Constructs a new TaskListCommand with the specified type.
+     *
+     * @param type The type of command being created.
+     */
+    public TaskListCommand(CommandType type) {
+        super(type);
+    }
+
+    /**
+     * Executes this command on the given task list.
+     * Implementation varies based on the specific command type and its required operations.
+     *
+     * @param tasks The task list to operate on.
+     * @param ui The user interface for displaying messages.
+     * @param storage The storage component for persisting data.
+     * @throws TweetyException If command execution fails or encounters invalid conditions.
+     */
+    public abstract void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException;
+
+    /**
+     * Executes this command on the current list of the given workspaces.
+     *
+     * @param workspaces The task lists, of which the current one is operated on.
+     * @param ui The user interface for displaying messages.
+     * @throws TweetyException If command execution fails or encounters invalid conditions.
+     */
+    @Override
+    public void execute(Workspaces workspaces, Ui ui) throws TweetyException {
+        execute(workspaces.getCurrentTasks(), ui, workspaces.getCurrentStorage());
+    }
+
+    /**
+     * Returns the selected tasks that are completed, or those that are pending, before a command changes them.
+     *
+     * @param tasks The task list holding the tasks.
+     * @param selection The tasks to look at.
+     * @param isCompleted Whether to return the completed tasks rather than the pending ones.
+     * @return The selected tasks with the given status, in list order.
+     * @throws TweetyException If a selected task number is out of range.
+     */
+    protected static List<Task> selectTasksWithStatus(TaskList tasks, TaskSelection selection, boolean isCompleted)
+            throws TweetyException {
+        List<Task> selectedTasks = new ArrayList<>();
+        for (Task task : tasks.selectTasks(selection)) {
+            if (task.isCompleted() == isCompleted) {
+                selectedTasks.add(task);
+            }
+        }
+        return selectedTasks;
+    }
+
+    /**
+     * Checks that a selection matched at least one task.
+     *
+     * @param selectedTasks The tasks the selection matched.
+     * @return The same tasks.
+     * @throws TweetyException If the selection matched no task.
+     */
+    protected static List<Task> requireAnySelected(List<Task> selectedTasks) throws TweetyException {
+        if (selectedTasks.isEmpty()) {
+            throw new TweetyException("Aww, hon, there awe no tasks like dat in your list!");
+        }
+        return selectedTasks;
+    }
+
+    /**
+     * Looks up the current position in the list of each of the given tasks.
+     *
+     * @param tasks The task list holding the tasks.
+     * @param selectedTasks The tasks to look up.
+     * @return The 1-based task number of each task, in the same order.
+     * @throws TweetyException If a task is no longer in the list.
+     */
+    protected static int[] getTaskNumbers(TaskList tasks, List<? extends Task> selectedTasks) throws TweetyException {
+        int[] taskNumbers = new int[selectedTasks.size()];
+        for (int i = 0; i < taskNumbers.length; i++) {
+            taskNumbers[i] = tasks.getTaskNumber(selectedTasks.get(i).getId());
+        }
+        return taskNumbers;
+    }
+}
@@ -6,15 +6,18 @@ import tweety.storage.Storage;
 
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
 import tweety.tasks.ToDo;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
  * Command for creating todo tasks in the Tweety application.
  * Creates a new todo task with a description and adds it to the task list.
  */
-public class TodoCommand extends Command {
+public class TodoCommand extends TaskListCommand {
 
     private String description;
 
@@ -32,10 +35,11 @@ public class TodoCommand extends Command {
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
         Task newTask = new ToDo(description);
         tasks.addTask(newTask);
+        tasks.recordEdit(UndoableEdit.add(List.of(newTask)));
 
         storage.saveTasks(tasks);
 
-        ui.printAddedTask(newTask, tasks.getTaskCount());
+        ui.printAddedTask(newTask, tasks.getTaskCount(), tasks.getPendingTaskCount());
     }
 
     @Override
@@ -0,0 +1,42 @@
+package tweety.commands;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.storage.Storage;
+
+import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
+
+import tweety.ui.Ui;
+
+/**
+ * Command for undoing the latest change to the task list in the Tweety application.
+ * Only the tasks the change touched are changed back, so undoing costs as much as the change did.
+ * Undoing several times goes further back, as far as the undo history reaches.
+ */
+public class UndoCommand extends TaskListCommand {
+
+    /**
+     * Constructs a new UndoCommand.
+     */
+    public UndoCommand() {
+        super(CommandType.UNDO);
+    }
+
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        UndoableEdit edit = tasks.undo();
+        if (edit == null) {
+            throw new TweetyException("Aww, hon, dere is nothing to undo!");
+        }
+
+        storage.saveTasks(tasks);
+
+        ui.printUndoneEdit(edit);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
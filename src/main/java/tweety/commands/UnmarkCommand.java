@@ -6,15 +6,20 @@ import tweety.storage.Storage;
 
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.TaskSelection;
+import tweety.tasks.UndoableEdit;
 
 import tweety.ui.Ui;
 
+import java.util.List;
+
 /**
  * Command for unmarking tasks as not completed in the Tweety application.
- * Marks the specified task as not done and updates its status in the task list.
+ * Marks the specified task, or every selected task in one pass, as not done and updates its status in the task list.
  */
-public class UnmarkCommand extends Command{
+public class UnmarkCommand extends TaskListCommand{
     private int taskNumber;
+    private TaskSelection selection;
 
     /**
      * Constructs a new UnmarkCommand with the specified task number.
@@ -26,9 +31,34 @@ public class UnmarkCommand extends Command{
         this.taskNumber = taskNumber;
     }
 
+    /**
+     * Constructs a new UnmarkCommand unmarking every selected task at once.
+     *
+     * @param selection The tasks to mark as not completed.
+     */
+    public UnmarkCommand(TaskSelection selection) {
+        super(CommandType.UNMARK);
+        this.selection = selection;
+    }
+
     @Override
     public void execute(TaskList tasks, Ui ui, Storage storage) throws TweetyException {
+        if (selection != null) {
+            // Only the tasks whose status actually changes need to change back on undo
+            List<Task> changedTasks = selectTasksWithStatus(tasks, selection, true);
+            List<Task> unmarkedTasks = requireAnySelected(tasks.unmarkTasks(selection));
+            tasks.recordEdit(UndoableEdit.unmark(unmarkedTasks, changedTasks));
+
+            storage.saveTasks(tasks);
+
+            ui.printUnmarkedTasks(unmarkedTasks);
+            return;
+        }
+
+        boolean wasCompleted = tasks.retrieveTask(taskNumber).isCompleted();
         Task unmarkedTask = tasks.unmarkTask(taskNumber);
+        tasks.recordEdit(UndoableEdit.unmark(List.of(unmarkedTask),
+                wasCompleted ? List.of(unmarkedTask) : List.of()));
 
         storage.saveTasks(tasks);
 
@@ -25,7 +25,10 @@ public class DialogBox extends HBox {
     @FXML
     private ImageView displayPicture;
 
-    private DialogBox(String text, Image img) {
+    /**
+     * Constructs an empty DialogBox, to be filled in with {@link #setMessage(String, Image, boolean)}.
+     */
+    DialogBox() {
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
             fxmlLoader.setController(this);
@@ -34,19 +37,40 @@ public class DialogBox extends HBox {
         } catch (IOException e) {
             e.printStackTrace();
         }
+    }
 
+    private DialogBox(String text, Image img) {
+        this();
         dialog.setText(text);
         displayPicture.setImage(img);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Shows the given message in this dialog box, laid out for the side it came from.
+     * This lets one dialog box be reused for different messages.
+     *
+     * @param text The text of the message.
+     * @param img The picture of the speaker.
+     * @param isTweety Whether the message is from Tweety, shown with the picture on the left.
+     */
+    void setMessage(String text, Image img, boolean isTweety) {
+        dialog.setText(text);
+        displayPicture.setImage(img);
+
+        boolean isFlipped = getChildren().get(0) == displayPicture;
+        if (isFlipped != isTweety) {
+            flip();
+        }
+    }
+
+    /**
+     * Flips the dialog box such that the ImageView and the text swap sides.
      */
     private void flip() {
         ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
         Collections.reverse(tmp);
         getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+        setAlignment(getAlignment() == Pos.TOP_LEFT ? Pos.TOP_RIGHT : Pos.TOP_LEFT);
     }
 
     public static DialogBox getUserDialog(String text, Image img) {
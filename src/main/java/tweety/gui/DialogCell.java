@@ -0,0 +1,46 @@
+package tweety.gui;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * A cell of the chat transcript, showing one DialogMessage in a DialogBox.
+ * The transcript only creates cells for the messages on screen and reuses them while scrolling,
+ * so each cell loads its DialogBox once and refills it with whichever message it is given.
+ */
+class DialogCell extends ListCell<DialogMessage> {
+    private final DialogBox dialogBox = new DialogBox();
+    private final Image userImage;
+    private final Image tweetyImage;
+
+    /**
+     * Constructs a new DialogCell.
+     *
+     * @param userImage The picture shown next to the user's messages.
+     * @param tweetyImage The picture shown next to Tweety's messages.
+     */
+    DialogCell(Image userImage, Image tweetyImage) {
+        this.userImage = userImage;
+        this.tweetyImage = tweetyImage;
+
+        // Let the transcript decide the width, so long messages wrap instead of scrolling sideways
+        setPrefWidth(0);
+        dialogBox.prefWidthProperty().bind(widthProperty());
+        setStyle("-fx-background-color: transparent; -fx-padding: 0; "
+                + "-fx-text-background-color: -fx-text-base-color;");
+    }
+
+    @Override
+    protected void updateItem(DialogMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+
+        boolean isTweety = message.getSpeaker() == DialogMessage.Speaker.TWEETY;
+        dialogBox.setMessage(message.getText(), isTweety ? tweetyImage : userImage, isTweety);
+        setGraphic(dialogBox);
+    }
+}
@@ -0,0 +1,37 @@
+package tweety.gui;
+
+/**
+ * Represents a single message in the chat transcript.
+ * Messages are kept as plain data, so only the messages on screen need a DialogBox.
+ */
+public class DialogMessage {
+
+    /**
+     * Enumeration of the parties in the chat.
+     */
+    public enum Speaker {
+        USER, TWEETY
+    }
+
+    private final Speaker speaker;
+    private final String text;
+
+    /**
+     * Constructs a new DialogMessage.
+     *
+     * @param speaker Who sent the message.
+     * @param text The text of the message.
+     */
+    public DialogMessage(Speaker speaker, String text) {
+        this.speaker = speaker;
+        this.text = text;
+    }
+
+    public Speaker getSpeaker() {
+        return speaker;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
@@ -6,72 +6,153 @@ import javafx.application.Platform;
 
 import javafx.util.Duration;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 import javafx.fxml.FXML;
 
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 
+import tweety.Settings;
 import tweety.Tweety;
 
-import tweety.ui.GuiUi;
+import tweety.tasks.TaskList;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Controller for the main GUI.
  */
 public class MainWindow extends AnchorPane {
+    /** How long a command may run before the working indicator is shown, so quick commands do not flicker it. */
+    private static final Duration WORKING_INDICATOR_DELAY = Duration.millis(200);
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<DialogMessage> transcript;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator workingIndicator;
 
     private Tweety tweety;
 
-    private GuiUi guiUi;
+    /** The whole transcript, of which the ListView only creates dialog boxes for the messages on screen. */
+    private final ObservableList<DialogMessage> messages = FXCollections.observableArrayList();
+    private final int historyLimit = Settings.getTranscriptHistoryLimit();
+
+    /** Runs commands one at a time, in the order they were entered, away from the JavaFX Application Thread. */
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tweety-commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final PauseTransition workingIndicatorDelay = new PauseTransition(WORKING_INDICATOR_DELAY);
+    private int runningCommandCount = 0;
+    private TaskTableWindow taskTableWindow;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/sylvester.png"));
     private Image tweetyImage = new Image(this.getClass().getResourceAsStream("/images/tweety.png"));
 
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        transcript.setItems(messages);
+        transcript.setCellFactory(listView -> new DialogCell(userImage, tweetyImage));
+        transcript.setFocusTraversable(false);
+        workingIndicatorDelay.setOnFinished(event -> workingIndicator.setVisible(runningCommandCount > 0));
     }
 
     /** Injects the Tweety instance */
     public void setTweety(Tweety t) {
         tweety = t;
 
-        guiUi = new GuiUi();  // Initialize GuiUi instance
-        guiUi.printWelcomeMessage();
-        String welcomeMessage = guiUi.getResponse();
+        String welcomeMessage = tweety.getWelcomeMessage();
 
-        dialogContainer.getChildren().add(
-                DialogBox.getTweetyDialog(welcomeMessage, tweetyImage)
-        );
+        addMessage(DialogMessage.Speaker.TWEETY, welcomeMessage);
+    }
+
+    /**
+     * Appends a message to the transcript and scrolls down to it.
+     * The oldest messages are dropped once the transcript is longer than the history limit.
+     */
+    private void addMessage(DialogMessage.Speaker speaker, String text) {
+        messages.add(new DialogMessage(speaker, text));
+        int overflow = messages.size() - historyLimit;
+        if (overflow > 0) {
+            messages.remove(0, overflow);
+        }
+        transcript.scrollTo(messages.size() - 1);
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Tweety's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Echoes the user input in the transcript and clears the input field, then runs the command in the background.
+     * Tweety's reply is appended to the transcript once the command is done, so the window stays responsive
+     * and further input can be entered while a slow command runs.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = tweety.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getTweetyDialog(response, tweetyImage)
-        );
+        addMessage(DialogMessage.Speaker.USER, input);
         userInput.clear();
 
-        if (tweety.shouldExit()) {
+        runningCommandCount++;
+        if (runningCommandCount == 1) {
+            workingIndicatorDelay.playFromStart();
+        }
+
+        commandExecutor.execute(() -> {
+            String response;
+            try {
+                response = tweety.getResponse(input);
+            } catch (RuntimeException e) {
+                response = "Error: " + e.getMessage();
+            }
+            boolean shouldExit = tweety.shouldExit();
+            boolean shouldShowTaskTable = tweety.shouldShowTaskTable();
+            // The command may have switched lists, so the table is pointed at whichever list is current now
+            TaskList currentTasks = tweety.getTasks();
+            String listName = tweety.getListName();
+
+            String finalResponse = response;
+            Platform.runLater(() -> showResponse(finalResponse, shouldExit, shouldShowTaskTable,
+                    currentTasks, listName));
+        });
+    }
+
+    /**
+     * Appends Tweety's reply to a command to the transcript and brings the task table up to date with the
+     * current list, showing it if the command asked to, and exits shortly after if the command asked to.
+     * Must be called on the JavaFX Application Thread.
+     */
+    private void showResponse(String response, boolean shouldExit, boolean shouldShowTaskTable,
+            TaskList currentTasks, String listName) {
+        addMessage(DialogMessage.Speaker.TWEETY, response);
+
+        if (shouldShowTaskTable) {
+            if (taskTableWindow == null) {
+                taskTableWindow = new TaskTableWindow(currentTasks, listName, userInput.getScene().getWindow());
+            }
+            taskTableWindow.show(currentTasks, listName);
+        } else if (taskTableWindow != null) {
+            taskTableWindow.refresh(currentTasks, listName);
+        }
+
+        runningCommandCount--;
+        if (runningCommandCount == 0) {
+            workingIndicatorDelay.stop();
+            workingIndicator.setVisible(false);
+        }
+
+        if (shouldExit) {
+            userInput.setDisable(true);
+            sendButton.setDisable(true);
             PauseTransition delay = new PauseTransition(Duration.seconds(1));
             delay.setOnFinished(event -> Platform.exit());
             delay.play();
@@ -0,0 +1,62 @@
+package tweety.gui;
+
+import javafx.collections.ObservableListBase;
+
+import tweety.tasks.TaskList;
+
+import java.util.Collections;
+
+/**
+ * An observable, read-only view of a TaskList for the task table, holding the text of each task.
+ * A task is read and formatted straight from the TaskList when a row asks for it, so nothing is copied,
+ * and the table only ever asks for the rows on screen. The text is formatted under the list's read lock,
+ * since a command on another thread may be changing the task at the same time.
+ * The view can be pointed at another TaskList, such as when the user switches lists.
+ */
+class TaskListItems extends ObservableListBase<String> {
+    private TaskList tasks;
+    private int size;
+
+    /**
+     * Constructs a view of the given task list.
+     *
+     * @param tasks The task list to show.
+     */
+    TaskListItems(TaskList tasks) {
+        this.tasks = tasks;
+        this.size = tasks.getTaskCount();
+    }
+
+    @Override
+    public String get(int index) {
+        // Commands run in the background, so the list may have shrunk since the last refresh
+        return tasks.read(list -> index < list.getTaskCount() ? list.getTask(index).toString() : null);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Shows the given task list from then on and tells the table that it may have changed, so that it redraws
+     * the rows on screen. Must be called on the JavaFX Application Thread.
+     *
+     * @param tasks The task list to show, which may be the one already shown.
+     */
+    void refresh(TaskList tasks) {
+        this.tasks = tasks;
+        int oldSize = size;
+        size = tasks.getTaskCount();
+
+        beginChange();
+        if (oldSize > 0) {
+            // The removed tasks are never looked at, so there is no need to copy them
+            nextRemove(0, Collections.nCopies(oldSize, (String) null));
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+}
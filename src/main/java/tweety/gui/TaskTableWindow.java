@@ -0,0 +1,95 @@
+package tweety.gui;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+import javafx.scene.Scene;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import tweety.tasks.TaskList;
+
+/**
+ * A window showing the whole current task list in a table.
+ * The table only creates rows for the tasks on screen and formats them straight from the TaskList,
+ * so showing a list of a million tasks costs about as much as showing a list of ten.
+ */
+class TaskTableWindow {
+    private static final double ROW_HEIGHT = 24.0;
+    private static final String TITLE = "Tweety's tasks";
+
+    private final Stage stage = new Stage();
+    private final TaskListItems items;
+
+    /**
+     * Constructs the window, without showing it yet.
+     *
+     * @param tasks The task list to show.
+     * @param listName The name of the task list.
+     * @param owner The main window.
+     */
+    TaskTableWindow(TaskList tasks, String listName, Window owner) {
+        items = new TaskListItems(tasks);
+
+        TableColumn<String, String> numberColumn = new TableColumn<>("#");
+        numberColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue()));
+        numberColumn.setCellFactory(column -> new TableCell<>() {
+            @Override
+            protected void updateItem(String task, boolean isEmpty) {
+                super.updateItem(task, isEmpty);
+                setText(isEmpty || task == null ? null : String.valueOf(getIndex() + 1));
+            }
+        });
+        numberColumn.setPrefWidth(70);
+
+        TableColumn<String, String> taskColumn = new TableColumn<>("Task");
+        taskColumn.setCellValueFactory(data ->
+                new ReadOnlyStringWrapper(data.getValue() == null ? "" : data.getValue()));
+        taskColumn.setPrefWidth(420);
+
+        TableView<String> table = new TableView<>(items);
+        table.getColumns().add(numberColumn);
+        table.getColumns().add(taskColumn);
+        // Sorting would copy the whole list, and a fixed row height saves measuring every row
+        numberColumn.setSortable(false);
+        taskColumn.setSortable(false);
+        table.setFixedCellSize(ROW_HEIGHT);
+
+        stage.setTitle(TITLE + ": " + listName);
+        stage.initOwner(owner);
+        stage.setScene(new Scene(table, 500, 600));
+    }
+
+    /**
+     * Shows the window with the given task list and brings it to the front.
+     *
+     * @param tasks The current task list.
+     * @param listName The name of the current task list.
+     */
+    void show(TaskList tasks, String listName) {
+        update(tasks, listName);
+        stage.show();
+        stage.toFront();
+    }
+
+    /**
+     * Brings the table up to date with the given task list, which is the one shown so far unless the user
+     * has switched lists, if the window is showing.
+     *
+     * @param tasks The current task list.
+     * @param listName The name of the current task list.
+     */
+    void refresh(TaskList tasks, String listName) {
+        if (stage.isShowing()) {
+            update(tasks, listName);
+        }
+    }
+
+    private void update(TaskList tasks, String listName) {
+        stage.setTitle(TITLE + ": " + listName);
+        items.refresh(tasks);
+    }
+}
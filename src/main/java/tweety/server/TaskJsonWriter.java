@@ -0,0 +1,156 @@
+package tweety.server;
+
+import java.util.List;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+
+/**
+ * Builds the JSON bodies of the replies of the Tweety server.
+ * Every task is written as an object such as
+ * {"number": 2, "type": "deadline", "done": false, "description": "return book", "by": "2025-09-30"},
+ * with the same fields as the JSON exchange format and the position of the task in the list.
+ */
+class TaskJsonWriter {
+    private final StringBuilder json = new StringBuilder();
+
+    /**
+     * Writes an object holding the number of tasks and the tasks themselves.
+     *
+     * @param tasks The tasks, in list order.
+     * @param taskNumbers The 1-based task number of each task.
+     * @return This writer.
+     */
+    TaskJsonWriter writeTasks(List<Task> tasks, int[] taskNumbers) {
+        json.append("{\"count\": ").append(tasks.size()).append(", \"tasks\": [");
+        for (int i = 0; i < tasks.size(); i++) {
+            json.append(i == 0 ? "\n  " : ",\n  ");
+            writeTask(tasks.get(i), taskNumbers[i]);
+        }
+        json.append(tasks.isEmpty() ? "]}\n" : "\n]}\n");
+        return this;
+    }
+
+    private void writeTask(Task task, int taskNumber) {
+        json.append("{\"number\": ").append(taskNumber).append(", ");
+        writeField("type", getTypeName(task)).append(", \"done\": ").append(task.isCompleted()).append(", ");
+        writeField("description", task.getDescription());
+        if (task instanceof Deadline) {
+            json.append(", ");
+            writeField("by", ((Deadline) task).getDeadline().toString());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            json.append(", ");
+            writeField("from", event.getEventStart()).append(", ");
+            writeField("to", event.getEventEnd());
+        }
+        json.append('}');
+    }
+
+    private static String getTypeName(Task task) {
+        if (task instanceof Deadline) {
+            return "deadline";
+        } else if (task instanceof Event) {
+            return "event";
+        }
+        return "todo";
+    }
+
+    /**
+     * Writes an object with a single string field, such as {"reply": "..."}.
+     *
+     * @param name The name of the field.
+     * @param value The value of the field.
+     * @return This writer.
+     */
+    TaskJsonWriter writeMessage(String name, String value) {
+        json.append('{');
+        writeField(name, value);
+        json.append("}\n");
+        return this;
+    }
+
+    /**
+     * Writes the start of an object, to be followed by fields and then {@link #writeObjectEnd()}.
+     *
+     * @return This writer.
+     */
+    TaskJsonWriter writeObjectStart() {
+        json.append('{');
+        return this;
+    }
+
+    /**
+     * Writes a field with a number value, separated from the previous field if there is one.
+     *
+     * @param name The name of the field.
+     * @param value The value of the field.
+     * @return This writer.
+     */
+    TaskJsonWriter writeNumberField(String name, long value) {
+        writeSeparator();
+        json.append('"').append(name).append("\": ").append(value);
+        return this;
+    }
+
+    /**
+     * Writes a field with a string value, separated from the previous field if there is one.
+     *
+     * @param name The name of the field.
+     * @param value The value of the field.
+     * @return This writer.
+     */
+    TaskJsonWriter writeStringField(String name, String value) {
+        writeSeparator();
+        writeField(name, value);
+        return this;
+    }
+
+    TaskJsonWriter writeObjectEnd() {
+        json.append("}\n");
+        return this;
+    }
+
+    private void writeSeparator() {
+        if (json.charAt(json.length() - 1) != '{') {
+            json.append(", ");
+        }
+    }
+
+    private StringBuilder writeField(String name, String value) {
+        json.append('"').append(name).append("\": \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return json.toString();
+    }
+}
@@ -0,0 +1,354 @@
+package tweety.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import tweety.Tweety;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+import tweety.tasks.TaskSnapshot;
+
+/**
+ * Serves a Tweety instance over HTTP on the loopback address, so that scripts and other tools can drive it
+ * without the GUI. Replies are JSON objects:
+ * <ul>
+ *   <li>POST /commands runs the command in the request body, such as "todo read book", and replies with
+ *   {"reply": "..."}, or with {"error": "..."} and status 400 if the command failed.</li>
+ *   <li>GET /tasks lists the tasks of the current list, optionally only those matching find=keyword,
+ *   status=done or status=pending, or those from start=n to end=m.</li>
+ *   <li>GET /stats counts the tasks of the current list.</li>
+ * </ul>
+ * Commands are handed to a single writer thread through a bounded queue, so they run one at a time in the order
+ * they arrived and a flood of them is turned away with status 503 instead of piling up. Queries do not wait in
+ * that queue: they are answered on the thread serving the request, alongside each other. Ranges of tasks and
+ * counts are read from a snapshot of the list, so they never wait for a command, while finding tasks or
+ * filtering them by status reads the list itself under its read lock, since only the list has the indexes.
+ * A bye command stops the server once it has saved the tasks.
+ */
+public class TweetyServer {
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int MAX_QUEUED_COMMANDS = 1024;
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final Tweety tweety;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ThreadPoolExecutor commandWriter;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * The reply to a command, and whether the command asked Tweety to exit.
+     */
+    private static class CommandResult {
+        final String reply;
+        final boolean isExit;
+
+        CommandResult(String reply, boolean isExit) {
+            this.reply = reply;
+            this.isExit = isExit;
+        }
+    }
+
+    /**
+     * Constructs a TweetyServer bound to the given port on the loopback address. The server is not started yet.
+     *
+     * @param tweety The Tweety instance to serve.
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public TweetyServer(Tweety tweety, int port) throws IOException {
+        this.tweety = tweety;
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            // Replies are small and sent whole, so holding them back to coalesce packets only adds latency
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+
+        // One thread per request in flight, reused between requests
+        this.requestExecutor = Executors.newCachedThreadPool(createThreadFactory("tweety-http"));
+        this.commandWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_COMMANDS), createThreadFactory("tweety-command-writer"));
+
+        server.createContext("/commands", this::handleCommand);
+        server.createContext("/tasks", this::handleTasks);
+        server.createContext("/stats", this::handleStats);
+        server.setExecutor(requestExecutor);
+    }
+
+    private static ThreadFactory createThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, lets the commands already queued finish, and releases every thread.
+     */
+    public void stop() {
+        server.stop(0);
+        commandWriter.shutdown();
+        try {
+            commandWriter.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        requestExecutor.shutdown();
+        stopped.countDown();
+    }
+
+    /**
+     * Blocks until the server has been stopped, such as by a bye command.
+     *
+     * @throws InterruptedException If the waiting thread is interrupted.
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!checkRoute(exchange, "/commands", "POST")) {
+                return;
+            }
+            byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                sendError(exchange, 413, "The command is too long.");
+                return;
+            }
+            String input = new String(body, StandardCharsets.UTF_8).trim();
+            if (input.isEmpty()) {
+                sendError(exchange, 400, "The request body should hold a command, such as \"todo read book\".");
+                return;
+            }
+
+            Future<CommandResult> result;
+            try {
+                result = commandWriter.submit(() -> {
+                    String reply = tweety.runCommand(input);
+                    return new CommandResult(reply, tweety.shouldExit());
+                });
+            } catch (RejectedExecutionException e) {
+                sendError(exchange, 503, "Too many commands are waiting to run, try again later.");
+                return;
+            }
+
+            CommandResult commandResult;
+            try {
+                commandResult = result.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof TweetyException) {
+                    sendError(exchange, 400, cause.getMessage());
+                } else {
+                    sendError(exchange, 500, "The command could not be run: " + cause);
+                }
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendError(exchange, 503, "The server is stopping.");
+                return;
+            }
+
+            send(exchange, 200, new TaskJsonWriter().writeMessage("reply", commandResult.reply).toString());
+            if (commandResult.isExit) {
+                // Stopping waits for the requests in flight, this one included, so it cannot run on this thread
+                new Thread(this::stop, "tweety-server-stop").start();
+            }
+        }
+    }
+
+    private void handleTasks(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!checkRoute(exchange, "/tasks", "GET")) {
+                return;
+            }
+            Map<String, String> query;
+            try {
+                query = parseQuery(exchange.getRequestURI().getRawQuery());
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, "The query is malformed.");
+                return;
+            }
+
+            String json;
+            try {
+                if (query.containsKey("find") || query.containsKey("status")) {
+                    // The indexes are only in the list itself, so hold it still between selecting the tasks
+                    // and looking up their numbers
+                    json = tweety.getTasks().read(tasks -> {
+                        List<Task> selectedTasks = selectTasks(tasks, query);
+                        int[] taskNumbers = new int[selectedTasks.size()];
+                        for (int i = 0; i < taskNumbers.length; i++) {
+                            taskNumbers[i] = tasks.getTaskNumber(selectedTasks.get(i).getId());
+                        }
+                        return new TaskJsonWriter().writeTasks(selectedTasks, taskNumbers).toString();
+                    });
+                } else {
+                    json = writeTaskRange(tweety.getTasks().snapshot(), query);
+                }
+            } catch (TweetyException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            }
+            send(exchange, 200, json);
+        }
+    }
+
+    /**
+     * Selects the tasks matching find=keyword, or else those with status=done or status=pending.
+     */
+    private static List<Task> selectTasks(TaskList tasks, Map<String, String> query) throws TweetyException {
+        String keyword = query.get("find");
+        if (keyword != null) {
+            return tasks.findTasks(keyword);
+        }
+
+        String status = query.get("status");
+        if (!status.equals("done") && !status.equals("pending")) {
+            throw new TweetyException("The status should be done or pending.");
+        }
+        return tasks.getTasksWithStatus(status.equals("done"));
+    }
+
+    /**
+     * Writes the tasks from start=n to end=m of a snapshot, or all of them, without taking the list's lock.
+     */
+    private static String writeTaskRange(TaskSnapshot snapshot, Map<String, String> query) throws TweetyException {
+        int taskCount = snapshot.getTaskCount();
+        int start = parseTaskNumber(query.get("start"), 1);
+        int end = Math.min(parseTaskNumber(query.get("end"), taskCount), taskCount);
+        List<Task> rangeTasks = new ArrayList<>(Math.max(end - start + 1, 0));
+        int taskNumber = 0;
+        for (Task task : snapshot) {
+            taskNumber++;
+            if (taskNumber > end) {
+                break;
+            }
+            if (taskNumber >= start) {
+                rangeTasks.add(task);
+            }
+        }
+
+        int[] taskNumbers = new int[rangeTasks.size()];
+        for (int i = 0; i < taskNumbers.length; i++) {
+            taskNumbers[i] = start + i;
+        }
+        return new TaskJsonWriter().writeTasks(rangeTasks, taskNumbers).toString();
+    }
+
+    private static int parseTaskNumber(String value, int defaultValue) throws TweetyException {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int taskNumber = Integer.parseInt(value);
+            if (taskNumber < 1) {
+                throw new TweetyException("Task numbers start at 1.");
+            }
+            return taskNumber;
+        } catch (NumberFormatException e) {
+            throw new TweetyException("Not a task number: " + value);
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!checkRoute(exchange, "/stats", "GET")) {
+                return;
+            }
+            String json = tweety.readCurrentList((listName, tasks) -> new TaskJsonWriter().writeObjectStart()
+                    .writeStringField("list", listName)
+                    .writeNumberField("tasks", tasks.getTaskCount())
+                    .writeNumberField("done", tasks.getCompletedTaskCount())
+                    .writeNumberField("pending", tasks.getPendingTaskCount())
+                    .writeObjectEnd().toString());
+            send(exchange, 200, json);
+        }
+    }
+
+    /**
+     * Checks that the request is for exactly the given path and uses the given method, replying with an error
+     * otherwise, since a context also receives every path that merely starts with its own.
+     *
+     * @return True if the request should be handled, false if an error has been sent.
+     */
+    private static boolean checkRoute(HttpExchange exchange, String path, String method) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            sendError(exchange, 404, "There is nothing at " + exchange.getRequestURI().getPath());
+            return false;
+        }
+        if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            sendError(exchange, 405, path + " only accepts " + method + " requests.");
+            return false;
+        }
+        return true;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, new TaskJsonWriter().writeMessage("error", message).toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
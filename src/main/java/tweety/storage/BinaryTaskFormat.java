@@ -0,0 +1,200 @@
+package tweety.storage;
+
+import java.io.IOException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.time.LocalDate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+import tweety.tasks.ToDo;
+
+/**
+ * The compact binary task file format, read and written through a FileChannel with heap buffers.
+ * The file is not memory-mapped, since a mapping stays open until it is garbage collected,
+ * and on Windows an open mapping keeps the file from being truncated or replaced by a move.
+ * The file starts with a fixed header (magic number, format version, generation, task count),
+ * followed by one record per task: a type byte, a completion byte, the length-prefixed UTF-8 description,
+ * then the epoch day of the deadline for deadlines, or the length-prefixed start and end for events.
+ */
+class BinaryTaskFormat implements TaskFileFormat {
+
+    private static final int MAGIC = 0x54575459; // "TWTY"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte TODO_TYPE = 'T';
+    private static final byte DEADLINE_TYPE = 'D';
+    private static final byte EVENT_TYPE = 'E';
+
+    @Override
+    public String getExtension() {
+        return "bin";
+    }
+
+    @Override
+    public byte[] encodeTask(Task task) {
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        int size = 2 + Integer.BYTES + description.length;
+
+        if (task instanceof Deadline) {
+            ByteBuffer record = ByteBuffer.allocate(size + Integer.BYTES);
+            putTaskPrefix(record, DEADLINE_TYPE, task, description);
+            record.putInt((int) ((Deadline) task).getDeadline().toEpochDay());
+            return record.array();
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            byte[] from = event.getEventStart().getBytes(StandardCharsets.UTF_8);
+            byte[] to = event.getEventEnd().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer record = ByteBuffer.allocate(size + Integer.BYTES * 2 + from.length + to.length);
+            putTaskPrefix(record, EVENT_TYPE, task, description);
+            record.putInt(from.length).put(from);
+            record.putInt(to.length).put(to);
+            return record.array();
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(size);
+        putTaskPrefix(record, TODO_TYPE, task, description);
+        return record.array();
+    }
+
+    private void putTaskPrefix(ByteBuffer record, byte type, Task task, byte[] description) {
+        record.put(type);
+        record.put(task.isCompleted() ? (byte) 1 : (byte) 0);
+        record.putInt(description.length).put(description);
+    }
+
+    @Override
+    public void write(Path path, long generation, List<byte[]> records, boolean isFsyncEnabled)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(Math.max(generation, 0));
+            buffer.putInt(records.size());
+            for (byte[] record : records) {
+                if (record.length > buffer.remaining()) {
+                    writeFully(channel, buffer.flip());
+                    buffer.clear();
+                }
+                if (record.length > buffer.capacity()) {
+                    writeFully(channel, ByteBuffer.wrap(record));
+                } else {
+                    buffer.put(record);
+                }
+            }
+            writeFully(channel, buffer.flip());
+            if (isFsyncEnabled) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public long read(Path path, Consumer<Task> consumer) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Task file too large: " + path);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+        }
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a Tweety task file: " + path);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported task file version " + version + ": " + path);
+        }
+        long generation = buffer.getLong();
+        int count = buffer.getInt();
+
+        byte[] scratch = new byte[256];
+        try {
+            for (int i = 0; i < count; i++) {
+                scratch = readTask(path, buffer, scratch, consumer);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted task file: " + path);
+        }
+        return generation;
+    }
+
+    /**
+     * Reads the next record from the buffer and hands the task over to the consumer.
+     *
+     * @return The scratch array to use for the next record, grown if this record needed more room.
+     */
+    private byte[] readTask(Path path, ByteBuffer buffer, byte[] scratch, Consumer<Task> consumer)
+            throws IOException {
+        byte type = buffer.get();
+        boolean isDone = buffer.get() != 0;
+        scratch = ensureCapacity(path, scratch, buffer);
+        String description = readString(buffer, scratch);
+
+        Task task;
+        switch (type) {
+            case TODO_TYPE:
+                task = new ToDo(description);
+                break;
+            case DEADLINE_TYPE:
+                task = new Deadline(description, LocalDate.ofEpochDay(buffer.getInt()));
+                break;
+            case EVENT_TYPE:
+                scratch = ensureCapacity(path, scratch, buffer);
+                String from = readString(buffer, scratch);
+                scratch = ensureCapacity(path, scratch, buffer);
+                String to = readString(buffer, scratch);
+                task = new Event(description, from, to);
+                break;
+            default:
+                throw new IOException("Unknown task type in task file: " + type);
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+        consumer.accept(task);
+        return scratch;
+    }
+
+    private byte[] ensureCapacity(Path path, byte[] scratch, ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt(buffer.position());
+        // A corrupt length must be caught before it is allocated, as it may be far larger than the file
+        if (length < 0 || length > buffer.remaining() - Integer.BYTES) {
+            throw new IOException("Corrupted task file: " + path);
+        }
+        return length > scratch.length ? new byte[Math.max(length, scratch.length * 2)] : scratch;
+    }
+
+    private String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = buffer.getInt();
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,259 @@
+package tweety.storage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+
+/**
+ * The CSV exchange format, as described in RFC 4180.
+ * Fields are separated by commas, and a field containing a comma, a quote or a line break is quoted,
+ * with quotes inside it doubled. The file starts with a header row naming the columns,
+ * which may come in any order; a file whose first row names neither the type nor the description column
+ * has no header, and is read as type, done, description, by, from, to.
+ * The file is parsed by hand from a fixed-size buffer, one record at a time.
+ */
+class CsvExchangeFormat implements TaskExchangeFormat {
+
+    private static final String[] COLUMNS = {TYPE_FIELD, DONE_FIELD, DESCRIPTION_FIELD, BY_FIELD, FROM_FIELD, TO_FIELD};
+    private static final int BUFFER_SIZE = 8192;
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    @Override
+    public void writeStart(Writer writer) throws IOException {
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+    }
+
+    @Override
+    public void writeTask(Writer writer, Task task, boolean isFirst) throws IOException {
+        writer.write(TaskExchangeFormat.getTypeName(task));
+        writer.write(',');
+        writer.write(Boolean.toString(task.isCompleted()));
+        writer.write(',');
+        writeField(writer, task.getDescription());
+        writer.write(',');
+        if (task instanceof Deadline) {
+            writer.write(((Deadline) task).getDeadline().toString());
+        }
+        writer.write(',');
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            writeField(writer, event.getEventStart());
+            writer.write(',');
+            writeField(writer, event.getEventEnd());
+        } else {
+            writer.write(',');
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void writeEnd(Writer writer) {
+    }
+
+    private void writeField(Writer writer, String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        needsQuotes |= !value.isEmpty() && (value.charAt(0) == ' ' || value.charAt(value.length() - 1) == ' ');
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public int read(Reader reader, Consumer<Task> consumer) throws IOException {
+        RecordReader records = new RecordReader(reader);
+        List<String> fields = new ArrayList<>();
+        int[] columns = {0, 1, 2, 3, 4, 5};
+        int skippedCount = 0;
+
+        boolean isFirstRecord = true;
+        while (records.next(fields)) {
+            if (isFirstRecord) {
+                isFirstRecord = false;
+                if (fields.get(0).startsWith(BYTE_ORDER_MARK)) {
+                    // Spreadsheet programs often start the CSV files they save with one
+                    fields.set(0, fields.get(0).substring(BYTE_ORDER_MARK.length()));
+                }
+                if (isHeader(fields)) {
+                    columns = mapColumns(fields);
+                    continue;
+                }
+            }
+
+            Task task = TaskExchangeFormat.createTask(getField(fields, columns[0]), getField(fields, columns[1]),
+                    getField(fields, columns[2]), getField(fields, columns[3]), getField(fields, columns[4]),
+                    getField(fields, columns[5]));
+            if (task == null) {
+                skippedCount++;
+            } else {
+                consumer.accept(task);
+            }
+        }
+        return skippedCount;
+    }
+
+    private boolean isHeader(List<String> fields) {
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.equalsIgnoreCase(TYPE_FIELD) || name.equalsIgnoreCase(DESCRIPTION_FIELD)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds where each of the known columns is in the header row.
+     *
+     * @return The index of each known column in the records, or -1 for a column the header does not name.
+     */
+    private int[] mapColumns(List<String> header) {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            columns[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).trim().equalsIgnoreCase(COLUMNS[i])) {
+                    columns[i] = j;
+                    break;
+                }
+            }
+        }
+        return columns;
+    }
+
+    private String getField(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : null;
+    }
+
+    /**
+     * Splits the characters of a CSV file into records, refilling a fixed-size buffer as it goes.
+     */
+    private static class RecordReader {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder field = new StringBuilder();
+        private int position;
+        private int limit;
+        private int lineNumber = 1;
+
+        RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the next record that is not a blank line.
+         *
+         * @param fields The list to put the fields of the record in, replacing its contents.
+         * @return True if a record was read, false at the end of the file.
+         * @throws IOException If the file cannot be read or ends inside a quoted field.
+         */
+        boolean next(List<String> fields) throws IOException {
+            fields.clear();
+            int c = read();
+            while (c == '\n' || c == '\r') {
+                skipLineBreak(c);
+                c = read();
+            }
+            if (c < 0) {
+                return false;
+            }
+
+            field.setLength(0);
+            boolean isFieldStart = true;
+            while (true) {
+                if (c == '"' && isFieldStart) {
+                    // Only a quote at the very start of a field opens a quoted field
+                    c = readQuoted();
+                    isFieldStart = false;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    isFieldStart = true;
+                    c = read();
+                } else if (c < 0 || c == '\n' || c == '\r') {
+                    fields.add(field.toString());
+                    if (c >= 0) {
+                        skipLineBreak(c);
+                    }
+                    return true;
+                } else {
+                    field.append((char) c);
+                    isFieldStart = false;
+                    c = read();
+                }
+            }
+        }
+
+        /**
+         * Appends the rest of a quoted field to the current field.
+         *
+         * @return The first character after the closing quote.
+         */
+        private int readQuoted() throws IOException {
+            int startLine = lineNumber;
+            while (true) {
+                int c = read();
+                if (c < 0) {
+                    throw new IOException("Unterminated quoted field starting on line " + startLine);
+                } else if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        return c;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            }
+        }
+
+        /**
+         * Finishes reading a line break that started with the given character, treating "\r\n" as a single one.
+         */
+        private void skipLineBreak(int c) throws IOException {
+            lineNumber++;
+            if (c == '\r' && peek() == '\n') {
+                position++;
+            }
+        }
+
+        private int read() throws IOException {
+            int c = peek();
+            if (c >= 0) {
+                position++;
+            }
+            return c;
+        }
+
+        private int peek() throws IOException {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    return -1;
+                }
+            }
+            return buffer[position];
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package tweety.storage;
+
+/**
+ * Describes the outcome of importing tasks from an exchange file.
+ */
+public class ImportResult {
+    private final int importedCount;
+    private final int skippedCount;
+
+    ImportResult(int importedCount, int skippedCount) {
+        this.importedCount = importedCount;
+        this.skippedCount = skippedCount;
+    }
+
+    /**
+     * Returns the number of tasks added to the task list.
+     *
+     * @return The number of imported tasks.
+     */
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    /**
+     * Returns the number of records left out because they do not describe a valid task.
+     *
+     * @return The number of skipped records.
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+}
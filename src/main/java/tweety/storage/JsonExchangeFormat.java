@@ -0,0 +1,322 @@
+package tweety.storage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+
+/**
+ * The JSON exchange format: a single array holding one object per task, such as
+ * {"type": "deadline", "done": false, "description": "return book", "by": "2025-09-30"}.
+ * Fields the format does not know are ignored, whatever their value.
+ * The file is parsed by hand from a fixed-size buffer, one task object at a time, so the array is never
+ * held in memory as a whole.
+ */
+class JsonExchangeFormat implements TaskExchangeFormat {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public void writeStart(Writer writer) throws IOException {
+        writer.write('[');
+    }
+
+    @Override
+    public void writeTask(Writer writer, Task task, boolean isFirst) throws IOException {
+        writer.write(isFirst ? "\n  {" : ",\n  {");
+        writeField(writer, TYPE_FIELD, TaskExchangeFormat.getTypeName(task));
+        writer.write(", \"" + DONE_FIELD + "\": " + task.isCompleted() + ", ");
+        writeField(writer, DESCRIPTION_FIELD, task.getDescription());
+        if (task instanceof Deadline) {
+            writer.write(", ");
+            writeField(writer, BY_FIELD, ((Deadline) task).getDeadline().toString());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            writer.write(", ");
+            writeField(writer, FROM_FIELD, event.getEventStart());
+            writer.write(", ");
+            writeField(writer, TO_FIELD, event.getEventEnd());
+        }
+        writer.write('}');
+    }
+
+    @Override
+    public void writeEnd(Writer writer) throws IOException {
+        writer.write("\n]\n");
+    }
+
+    private void writeField(Writer writer, String name, String value) throws IOException {
+        writer.write('"');
+        writer.write(name);
+        writer.write("\": ");
+        writeString(writer, value);
+    }
+
+    private void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    @Override
+    public int read(Reader reader, Consumer<Task> consumer) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        Map<String, String> fields = new HashMap<>();
+        int skippedCount = 0;
+
+        json.expect('[');
+        boolean hasMoreTasks = json.peekToken() != ']';
+        while (hasMoreTasks) {
+            json.readObject(fields);
+            Task task = TaskExchangeFormat.createTask(fields.get(TYPE_FIELD), fields.get(DONE_FIELD),
+                    fields.get(DESCRIPTION_FIELD), fields.get(BY_FIELD), fields.get(FROM_FIELD), fields.get(TO_FIELD));
+            if (task == null) {
+                skippedCount++;
+            } else {
+                consumer.accept(task);
+            }
+            hasMoreTasks = json.readSeparator(']');
+        }
+        json.expect(']');
+        json.expectEnd();
+        return skippedCount;
+    }
+
+    /**
+     * Reads the tokens of a JSON document, refilling a fixed-size buffer as it goes.
+     */
+    private static class JsonReader {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder text = new StringBuilder();
+        private int position;
+        private int limit;
+        private int lineNumber = 1;
+
+        JsonReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the fields of the next object, replacing the contents of the given map.
+         * Values that are strings, numbers, booleans or null are kept as their text,
+         * and nested objects and arrays are skipped.
+         *
+         * @param fields The map to put the fields in.
+         * @throws IOException If the input is not a well-formed object.
+         */
+        void readObject(Map<String, String> fields) throws IOException {
+            fields.clear();
+            expect('{');
+            boolean hasMoreFields = peekToken() != '}';
+            while (hasMoreFields) {
+                if (peekToken() != '"') {
+                    throw error("expected a field name");
+                }
+                String name = readString();
+                expect(':');
+                fields.put(name, readValue());
+                hasMoreFields = readSeparator('}');
+            }
+            expect('}');
+        }
+
+        /**
+         * Reads the comma between two members of an array or object, or stops at its closing bracket.
+         *
+         * @return True if a comma was read, false if the closing bracket is next.
+         */
+        boolean readSeparator(char closingBracket) throws IOException {
+            int c = peekToken();
+            if (c == ',') {
+                position++;
+                return true;
+            } else if (c == closingBracket) {
+                return false;
+            }
+            throw error("expected ',' or '" + closingBracket + "'");
+        }
+
+        private String readValue() throws IOException {
+            int c = peekToken();
+            if (c == '"') {
+                return readString();
+            } else if (c == '{' || c == '[') {
+                skipNested();
+                return null;
+            }
+
+            text.setLength(0);
+            while (c >= 0 && c != ',' && c != '}' && c != ']' && !isWhitespace(c)) {
+                text.append((char) c);
+                position++;
+                c = peek();
+            }
+            String literal = text.toString();
+            if (literal.isEmpty()) {
+                throw error("expected a value");
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        private void skipNested() throws IOException {
+            int depth = 0;
+            do {
+                int c = peekToken();
+                if (c < 0) {
+                    throw error("unexpected end of file");
+                } else if (c == '"') {
+                    readString();
+                    continue;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                position++;
+            } while (depth > 0);
+        }
+
+        private String readString() throws IOException {
+            expect('"');
+            text.setLength(0);
+            while (true) {
+                int c = read();
+                if (c < 0 || c == '\n') {
+                    throw error("unterminated string");
+                } else if (c == '"') {
+                    return text.toString();
+                } else if (c == '\\') {
+                    text.append(readEscape());
+                } else {
+                    text.append((char) c);
+                }
+            }
+        }
+
+        private char readEscape() throws IOException {
+            int c = read();
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    return (char) c;
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw error("invalid unicode escape");
+                        }
+                        value = value * 16 + digit;
+                    }
+                    return (char) value;
+                default:
+                    throw error("invalid escape");
+            }
+        }
+
+        void expect(char expected) throws IOException {
+            if (peekToken() != expected) {
+                throw error("expected '" + expected + "'");
+            }
+            position++;
+        }
+
+        void expectEnd() throws IOException {
+            if (peekToken() >= 0) {
+                throw error("unexpected content after the task array");
+            }
+        }
+
+        /**
+         * Skips whitespace and returns the next character without consuming it.
+         *
+         * @return The next character that is not whitespace, or -1 at the end of the input.
+         */
+        int peekToken() throws IOException {
+            int c = peek();
+            while (isWhitespace(c)) {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                position++;
+                c = peek();
+            }
+            return c;
+        }
+
+        /**
+         * Returns whether the character is whitespace between tokens.
+         * A byte order mark at the start of the file is skipped like whitespace.
+         */
+        private boolean isWhitespace(int c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\uFEFF';
+        }
+
+        private int read() throws IOException {
+            int c = peek();
+            if (c >= 0) {
+                position++;
+            }
+            return c;
+        }
+
+        private int peek() throws IOException {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    return -1;
+                }
+            }
+            return buffer[position];
+        }
+
+        private IOException error(String problem) {
+            return new IOException("Malformed JSON on line " + lineNumber + ": " + problem);
+        }
+    }
+}
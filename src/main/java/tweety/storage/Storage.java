@@ -1,42 +1,174 @@
 package tweety.storage;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Reader;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
-import tweety.exceptions.TweetyException;
+import tweety.Settings;
 
-import tweety.tasks.TaskList;
+import tweety.exceptions.TweetyException;
 
-import tweety.tasks.Deadline;
-import tweety.tasks.Event;
 import tweety.tasks.Task;
-import tweety.tasks.ToDo;
+import tweety.tasks.TaskList;
+import tweety.tasks.TaskMutation;
+import tweety.tasks.TaskSnapshot;
 
 
 /**
  * Handles storage operations for tasks such as saving to and loading from file.
+ * In journaled mode, each save appends the recorded mutations to a journal file next to the task file,
+ * and the journal is periodically compacted back into the task file on a background thread.
+ * In asynchronous mode, saves only queue their data and a dedicated writer thread writes it out,
+ * coalescing bursts of saves into a single write.
+ * Whole task files are always written from a snapshot of the task list, so commands can keep changing the list
+ * while it is being written out.
+ * The task file itself is kept either in the pipe-delimited text format or in a compact binary format,
+ * and a task file found in the other format is migrated automatically on load.
+ * Saves can also be deferred, so that a long run of commands is written out once instead of after every command.
+ * Tasks can also be imported from and exported to CSV and JSON files, for use with other programs.
  */
 public class Storage {
 
+    private static final String FIELD_SEPARATOR = " | ";
+    private static final String FIELD_SEPARATOR_REGEX = " \\| ";
+    private static final String GENERATION_PREFIX = TextTaskFormat.GENERATION_PREFIX;
+    private static final String MIGRATED_EXTENSION = ".bak";
+    private static final String FAILED_JOURNAL_EXTENSION = ".failed";
+    private static final int JOURNAL_NOT_APPLICABLE = -1;
+    private static final int JOURNAL_FAILED = -2;
+    private static final int LOAD_CHUNK_SIZE = 1024;
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String JSON_EXTENSION = ".json";
+
+    private static final String ADD_RECORD = "A";
+    private static final String INSERT_RECORD = "I";
+    private static final String MARK_RECORD = "M";
+    private static final String UNMARK_RECORD = "U";
+    private static final String EDIT_RECORD = "E";
+    private static final String DELETE_RECORD = "D";
+
     private final Path filePath;
+    private final Path legacyFilePath;
     private final Path directoryPath;
+    private final Path journalPath;
+    private final Path rotatedJournalPath;
+    private final Path compactionPath;
+    private final TaskFileFormat format;
+    private final TaskFileFormat legacyFormat;
+    private final boolean isJournaled;
+    private final boolean isFsyncEnabled;
+    private final int compactionThreshold;
+    private final Executor compactor;
+    private final StorageWriter writer;
+
+    // Guarded by this, shared between the threads that save and the thread that writes
+    private long generation;
+    private int journalEntryCount;
+    private boolean isJournalStarted;
+    private boolean hasJournalFiles;
+    private boolean isCompacting;
+    private boolean isCompactionFailed;
+    private List<String> pendingJournalLines = new ArrayList<>();
+    private int pendingCompactionSplit;
+    private TaskSnapshot pendingCompaction;
+    private long pendingCompactionGeneration;
+    private TaskSnapshot pendingSnapshot;
+    private boolean isDeferringSaves;
+    private TaskList deferredTasks;
 
     public Storage() {
         this(Paths.get("data/Tweety.txt"), Paths.get("data/"));
     }
 
     public Storage(Path filePath, Path directoryPath) {
+        this(filePath, directoryPath, Settings.isJournalEnabled(), Settings.getCompactionThreshold(),
+                Settings.isAsyncStorageEnabled(), Settings.getMaxWriteLatencyMillis(), Settings.isFsyncEnabled(),
+                Settings.isBinaryStorageEnabled());
+    }
+
+    /**
+     * Constructs a synchronous Storage for the given task file.
+     *
+     * @param filePath The task file.
+     * @param directoryPath The directory containing the task file.
+     * @param isJournaled Whether saves append to a journal instead of rewriting the task file.
+     * @param compactionThreshold The number of journal records after which the journal is compacted.
+     */
+    public Storage(Path filePath, Path directoryPath, boolean isJournaled, int compactionThreshold) {
+        this(filePath, directoryPath, isJournaled, compactionThreshold, false, 0, false, false);
+    }
+
+    /**
+     * Constructs a Storage for the given task file.
+     *
+     * @param filePath The task file.
+     * @param directoryPath The directory containing the task file.
+     * @param isJournaled Whether saves append to a journal instead of rewriting the task file.
+     * @param compactionThreshold The number of journal records after which the journal is compacted.
+     * @param isAsync Whether saves are written out by a dedicated writer thread instead of the caller.
+     * @param maxLatencyMillis How long the writer thread may hold back a save to coalesce it with later ones.
+     * @param isFsyncEnabled Whether every write is forced to the storage device before it is considered done.
+     * @param isBinary Whether the task file is kept in the binary format instead of the text format.
+     *     The extension of filePath is replaced by the one of the chosen format.
+     */
+    public Storage(Path filePath, Path directoryPath, boolean isJournaled, int compactionThreshold,
+                   boolean isAsync, long maxLatencyMillis, boolean isFsyncEnabled, boolean isBinary) {
         assert filePath != null : "filePath should not be null";
         assert directoryPath != null : "directoryPath should not be null";
+        assert compactionThreshold > 0 : "compactionThreshold should be positive";
+        assert maxLatencyMillis >= 0 : "maxLatencyMillis should not be negative";
 
-        this.filePath = filePath;
         this.directoryPath = directoryPath;
+        this.isJournaled = isJournaled;
+        this.compactionThreshold = compactionThreshold;
+        this.isFsyncEnabled = isFsyncEnabled;
+
+        TaskFileFormat textFormat = new TextTaskFormat();
+        TaskFileFormat binaryFormat = new BinaryTaskFormat();
+        this.format = isBinary ? binaryFormat : textFormat;
+        this.legacyFormat = isBinary ? textFormat : binaryFormat;
+
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        this.filePath = filePath.resolveSibling(baseName + "." + format.getExtension());
+        this.legacyFilePath = filePath.resolveSibling(baseName + "." + legacyFormat.getExtension());
+        this.journalPath = filePath.resolveSibling(baseName + ".journal");
+        this.rotatedJournalPath = filePath.resolveSibling(baseName + ".journal.old");
+        this.compactionPath = this.filePath.resolveSibling(this.filePath.getFileName() + ".tmp");
+
+        if (isAsync) {
+            // The writer thread is already off the caller's path, so it can compact inline
+            this.compactor = Runnable::run;
+            this.writer = new StorageWriter(this::writePending, maxLatencyMillis);
+        } else {
+            this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "tweety-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.writer = null;
+        }
     }
 
     private void ensureDirectoryExists() throws IOException {
@@ -48,123 +180,683 @@ public class Storage {
     /**
      * Saves the input list of tasks in the storage file.
      * Creates the directory structure if it doesn't exist.
+     * In journaled mode, only the changes made since the previous save are appended to the journal.
+     * In asynchronous mode, the save is handed to the writer thread and this method returns immediately.
+     *
+     * While saves are deferred, the task list is only remembered until the deferred save is written.
      *
      * @param tasks the list of tasks to be saved.
      */
     public void saveTasks(TaskList tasks) {
-        try {
-            // Check if directory exists first
-            ensureDirectoryExists();
+        synchronized (this) {
+            if (isDeferringSaves) {
+                deferredTasks = tasks;
+                return;
+            }
+        }
+        requestSave(tasks);
+    }
 
-            List<String> lines = new ArrayList<>();
+    /**
+     * Starts or stops deferring saves.
+     * While saves are deferred, saveTasks writes nothing; the changes stay recorded in the task list
+     * until saveDeferredTasks is called. Stopping deferring saves writes any save that was held back.
+     *
+     * @param isDeferred Whether saves should be deferred.
+     */
+    public void setSavesDeferred(boolean isDeferred) {
+        synchronized (this) {
+            isDeferringSaves = isDeferred;
+        }
+        if (!isDeferred) {
+            saveDeferredTasks();
+        }
+    }
+
+    /**
+     * Writes the save that was held back while saves are deferred, if there is one.
+     */
+    public void saveDeferredTasks() {
+        TaskList tasks;
+        synchronized (this) {
+            tasks = deferredTasks;
+            deferredTasks = null;
+        }
+        if (tasks != null) {
+            requestSave(tasks);
+        }
+    }
+
+    private void requestSave(TaskList tasks) {
+        synchronized (this) {
+            if (isJournaled) {
+                queueJournalLines(tasks);
+            } else {
+                pendingSnapshot = tasks.drainMutationsToSnapshot();
+            }
+        }
+
+        if (writer != null) {
+            writer.requestWrite();
+        } else {
+            writePending();
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written out.
+     * Saves are already written by the time they return in synchronous mode, so this only waits in asynchronous mode.
+     *
+     * @throws IllegalStateException If the writer thread has stopped, so the saves can never be written out.
+     */
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes out every save requested or deferred so far and stops the threads of this Storage,
+     * such as when its task list is dropped from memory. A compaction that is already running is waited for,
+     * so that a Storage opened on the same files afterwards never races it for them.
+     * The Storage must not be used afterwards.
+     *
+     * @throws IllegalStateException If the writer thread stopped before every save was written out.
+     */
+    public void close() {
+        try {
+            setSavesDeferred(false);
+            if (writer != null) {
+                writer.close();
+            }
+        } finally {
+            if (compactor instanceof ExecutorService) {
+                awaitCompactor((ExecutorService) compactor);
+            }
+        }
+    }
 
-            // Convert each task to string format
-            for (int i = 0; i < tasks.getTaskCount(); i++) {
-                lines.add(convertTaskToFileString(tasks.getTask(i)));
+    private static void awaitCompactor(ExecutorService compactorService) {
+        compactorService.shutdown();
+        try {
+            while (!compactorService.awaitTermination(1, TimeUnit.MINUTES)) {
+                System.out.println("Still waiting for the tasks to be compacted...");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            // Write to file
-            Files.write(filePath, lines);
+    /**
+     * Imports every task of a CSV or JSON file to the end of the task list, choosing the format by the extension.
+     * The file is parsed as a stream and its tasks are added a chunk at a time as they are read, so only one
+     * chunk is held on top of the list however large the file is. If the file turns out to be malformed part
+     * way through, the tasks already added are discarded again, so a malformed file adds nothing, not even
+     * changes waiting to be saved.
+     * The tasks are recorded as changes, but not saved; the caller saves the list once afterwards.
+     *
+     * @param file The file to import.
+     * @param tasks The task list to add the tasks to.
+     * @return How many tasks were imported and how many records were skipped.
+     * @throws TweetyException If the file is not a CSV or JSON file, cannot be read or is malformed.
+     */
+    public ImportResult importTasks(Path file, TaskList tasks) throws TweetyException {
+        TaskExchangeFormat exchangeFormat = getExchangeFormat(file);
+        int countBefore = tasks.getTaskCount();
+        List<Task> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+        int skippedCount;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            skippedCount = exchangeFormat.read(reader, task -> {
+                chunk.add(task);
+                if (chunk.size() == LOAD_CHUNK_SIZE) {
+                    tasks.addTasks(chunk);
+                    chunk.clear();
+                }
+            });
+            tasks.addTasks(chunk);
+        } catch (NoSuchFileException e) {
+            throw new TweetyException("Aww, hon, dere is no file called " + file + "!");
         } catch (IOException e) {
-            System.out.println("Error saving tasks: " + e.getMessage());
+            tasks.discardTasksAfter(countBefore);
+            throw new TweetyException("Oopsie, hon! I could not read " + file + ": " + e.getMessage());
+        }
+        return new ImportResult(tasks.getTaskCount() - countBefore, skippedCount);
+    }
+
+    /**
+     * Exports every task in the list to a CSV or JSON file, choosing the format by the extension.
+     * The tasks are written out from a snapshot, so the list is never copied as a whole.
+     *
+     * @param tasks The task list to export.
+     * @param file The file to write, which is replaced if it already exists.
+     * @return The number of tasks exported.
+     * @throws TweetyException If the file is not a CSV or JSON file or cannot be written.
+     */
+    public int exportTasks(TaskList tasks, Path file) throws TweetyException {
+        TaskExchangeFormat exchangeFormat = getExchangeFormat(file);
+        TaskSnapshot snapshot = tasks.snapshot();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            exchangeFormat.writeStart(writer);
+            boolean isFirst = true;
+            for (Task task : snapshot) {
+                exchangeFormat.writeTask(writer, task, isFirst);
+                isFirst = false;
+            }
+            exchangeFormat.writeEnd(writer);
+        } catch (IOException e) {
+            throw new TweetyException("Oopsie, hon! I could not write " + file + ": " + e.getMessage());
         }
+        return snapshot.getTaskCount();
+    }
+
+    private TaskExchangeFormat getExchangeFormat(Path file) throws TweetyException {
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(CSV_EXTENSION)) {
+            return new CsvExchangeFormat();
+        } else if (fileName.endsWith(JSON_EXTENSION)) {
+            return new JsonExchangeFormat();
+        }
+        throw new TweetyException("Aww, hon, I can only import and export " + CSV_EXTENSION + " or "
+                + JSON_EXTENSION + " files!");
     }
 
     /**
-     * Loads tasks from the Tweety.txt file.
+     * Loads tasks from the task file, then replays any journal written since it was last compacted.
+     * If there is no task file in the configured format but there is one in the other format,
+     * that file is loaded instead and migrated to the configured format.
      *
      * @return a list of tasks loaded from the file.
      */
     public ArrayList<Task> loadTasks() {
-        ArrayList<Task> tasks = new ArrayList<>();
+        TaskList tasks = new TaskList();
+        loadTasks(tasks);
+        return tasks.getAllTasks();
+    }
+
+    /**
+     * Starts loading tasks into the given task list on a background thread.
+     * The tasks are published into the list in chunks while the file is being read.
+     *
+     * @param tasks the empty task list to load the tasks into.
+     * @return a future that completes once every task has been loaded.
+     */
+    public CompletableFuture<Void> loadTasksInBackground(TaskList tasks) {
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        Thread loader = new Thread(() -> {
+            loadTasks(tasks);
+            loaded.complete(null);
+        }, "tweety-loader");
+        loader.setDaemon(true);
+        loader.start();
+        return loaded;
+    }
+
+    /**
+     * Streams tasks from the task file into the given task list, then replays any journal on top of them.
+     *
+     * @param tasks the empty task list to load the tasks into.
+     */
+    public void loadTasks(TaskList tasks) {
         try {
-            if (!Files.exists(filePath)) {
-                return tasks;
+            generation = 0;
+            boolean isMigrating = !Files.exists(filePath) && Files.exists(legacyFilePath);
+            if (isMigrating) {
+                generation = readInChunks(legacyFormat, legacyFilePath, tasks);
+            } else if (Files.exists(filePath)) {
+                generation = readInChunks(format, filePath, tasks);
             }
 
-            // Read the tasks from the string file
-            List<String> lines = Files.readAllLines(filePath);
-            for (int i = 0; i < lines.size(); i++) {
-                // Convert the string to task object
-                Task currTask =  parseTaskFromString(lines.get(i));
+            replayJournals(tasks);
 
-                // Add the task to the list of tasks to return
-                if (currTask != null) {
-                    tasks.add(currTask);
-                }
+            // The replayed changes are already on disk
+            tasks.drainMutations();
+
+            if (isMigrating) {
+                migrate(tasks);
             }
         } catch (Exception e) {
             System.out.println("Error loading tasks: " + e.getMessage());
         }
+    }
 
-        return tasks;
+    private long readInChunks(TaskFileFormat fileFormat, Path path, TaskList tasks) throws IOException {
+        List<Task> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+        long fileGeneration = fileFormat.read(path, task -> {
+            chunk.add(task);
+            if (chunk.size() == LOAD_CHUNK_SIZE) {
+                tasks.addLoadedTasks(chunk);
+                chunk.clear();
+            }
+        });
+        tasks.addLoadedTasks(chunk);
+        return fileGeneration;
+    }
+
+    /**
+     * Writes the tasks loaded from the task file of the other format into the configured format,
+     * then keeps the old file aside as a backup.
+     */
+    private void migrate(TaskList tasks) throws IOException {
+        rewriteTaskFile(convertTasksToRecords(tasks.snapshot()));
+        Files.move(legacyFilePath, legacyFilePath.resolveSibling(legacyFilePath.getFileName() + MIGRATED_EXTENSION),
+                StandardCopyOption.REPLACE_EXISTING);
     }
 
     /**
-     * Converts tasks into strings to be saved in the storage file.
+     * Replays the rotated journal left by an unfinished compaction and then the current journal.
+     * A journal is only replayed if it was written on top of the generation of tasks loaded so far,
+     * so a journal that has already been compacted into the task file is never applied twice.
+     * If a record of the rotated journal cannot be applied, the current journal, which was written on top of it,
+     * is not replayed either, but kept aside like the failed one.
+     */
+    private void replayJournals(TaskList tasks) throws IOException {
+        hasJournalFiles = Files.exists(journalPath) || Files.exists(rotatedJournalPath);
+        if (!hasJournalFiles) {
+            return;
+        }
+        if (Files.exists(rotatedJournalPath) && readJournalGeneration(journalPath) == generation) {
+            // A failed compaction already folded the rotated journal back into the current one
+            Files.delete(rotatedJournalPath);
+        }
+
+        int rotatedEntries = replayJournal(rotatedJournalPath, tasks);
+        int replayedEntries = JOURNAL_NOT_APPLICABLE;
+        if (rotatedEntries == JOURNAL_FAILED) {
+            keepJournalForRecovery(journalPath);
+        } else {
+            if (rotatedEntries >= 0) {
+                generation++;
+            }
+            replayedEntries = replayJournal(journalPath, tasks);
+        }
+
+        if (rotatedEntries != JOURNAL_NOT_APPLICABLE || replayedEntries < 0) {
+            // The journals do not line up with the task file, so fold everything into a fresh task file
+            rewriteTaskFile(convertTasksToRecords(tasks.snapshot()));
+        } else {
+            Files.deleteIfExists(rotatedJournalPath);
+            journalEntryCount = replayedEntries;
+            isJournalStarted = true;
+        }
+    }
+
+    private static long readJournalGeneration(Path journal) throws IOException {
+        if (!Files.exists(journal)) {
+            return -1;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journal)) {
+            String header = reader.readLine();
+            return header == null ? -1 : TextTaskFormat.parseGeneration(header);
+        }
+    }
+
+    /**
+     * Applies every record of the given journal to the tasks, stopping at the first record that cannot be applied.
+     * The records after it refer to tasks by their position, so applying them without it would change the wrong
+     * tasks. The tasks are then left as the records before it made them, and the journal is kept aside so that
+     * the rest of it can be recovered by hand.
      *
-     * @param task task to convert to string to be saved in the storage file.
-     * @return String of the task.
+     * @return The number of records applied, JOURNAL_NOT_APPLICABLE if the journal does not apply to the current
+     *     generation, or JOURNAL_FAILED if a record could not be applied.
      */
-    private String convertTaskToFileString(Task task) {
-        if (task instanceof ToDo) {
-            return "T | " + task.getStatusIcon() + " | " + task.getDescription();
-        } else if (task instanceof Deadline) {
-            Deadline deadline = (Deadline) task;
-            return "D | " + task.getStatusIcon() + " | " + task.getDescription() + " | "
-                    + ((Deadline) task).getDeadline();
-        } else if (task instanceof Event) {
-            Event event = (Event) task;
-            return "E | " + task.getStatusIcon() + " | " + task.getDescription()
-                    + " | " + event.getEventStart() + " | " + event.getEventEnd();
+    private int replayJournal(Path journal, TaskList tasks) throws IOException {
+        if (!Files.exists(journal)) {
+            return JOURNAL_NOT_APPLICABLE;
+        }
+
+        List<String> lines = Files.readAllLines(journal);
+        if (lines.isEmpty() || TextTaskFormat.parseGeneration(lines.get(0)) != generation) {
+            return JOURNAL_NOT_APPLICABLE;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                applyJournalEntry(lines.get(i), tasks);
+            } catch (TweetyException | RuntimeException e) {
+                Path keptJournal = keepJournalForRecovery(journal);
+                System.out.println("Error replaying journal entry on line " + (i + 1) + ": " + lines.get(i)
+                        + ". The changes from there on were not loaded, and the journal is kept in " + keptJournal);
+                return JOURNAL_FAILED;
+            }
         }
-        return "";
+        return lines.size() - 1;
     }
 
     /**
-     * Parses tasks from string to tasks when "list" command is used.
+     * Copies a journal aside under a name of its own, before it is folded into the task file and deleted.
      *
-     * @return Task object by reading the strings in the file.
+     * @return The copy, or null if there is no such journal.
      */
-    private Task parseTaskFromString(String line) throws TweetyException {
-        // Split the string input into its type, isDone and description
-        String[] parts = line.split(" \\| ");
-        if (parts.length < 3) {
+    private Path keepJournalForRecovery(Path journal) throws IOException {
+        if (!Files.exists(journal)) {
             return null;
         }
-        String type = parts[0];
-        boolean isDone = parts[1].equals("[X]");
-        String description = parts[2];
+        Path keptJournal = journal.resolveSibling(
+                journal.getFileName() + "." + System.currentTimeMillis() + FAILED_JOURNAL_EXTENSION);
+        Files.copy(journal, keptJournal, StandardCopyOption.REPLACE_EXISTING);
+        return keptJournal;
+    }
+
+    private void applyJournalEntry(String line, TaskList tasks) throws TweetyException {
+        if (line.startsWith(GENERATION_PREFIX)) {
+            // Left behind when a journal could not be rotated for compaction, the records around it still apply
+            return;
+        }
 
-        // Return the string as respective task objects
-        switch (type) {
-            case "T":
-                ToDo todo = new ToDo(description);
-                if (isDone) {
-                    todo.markAsDone();
+        String[] parts = line.split(FIELD_SEPARATOR_REGEX, 2);
+        switch (parts[0]) {
+            case ADD_RECORD:
+                Task task = TextTaskFormat.parseTaskFromString(parts[1]);
+                if (task != null) {
+                    tasks.addTask(task);
                 }
-                return todo;
-            case "D":
-                if (parts.length < 4) return null;
-                try {
-                    Deadline deadline = new Deadline(description, parts[3]);
-                    if (isDone) {
-                        deadline.markAsDone();
-                    }
-                    return deadline;
-                } catch (TweetyException e) {
-                    System.out.println(e.getMessage());
-                    return null;
+                break;
+            case INSERT_RECORD:
+                String[] insert = parts[1].split(FIELD_SEPARATOR_REGEX, 2);
+                Task insertedTask = TextTaskFormat.parseTaskFromString(insert[1]);
+                if (insertedTask != null) {
+                    tasks.insertTask(Integer.parseInt(insert[0]), insertedTask);
                 }
-            case "E":
-                if (parts.length < 5) return null;
-                Event event = new Event(description, parts[3], parts[4]);
-                if (isDone) {
-                    event.markAsDone();
+                break;
+            case MARK_RECORD:
+                tasks.markTask(Integer.parseInt(parts[1]));
+                break;
+            case UNMARK_RECORD:
+                tasks.unmarkTask(Integer.parseInt(parts[1]));
+                break;
+            case EDIT_RECORD:
+                String[] edit = parts[1].split(FIELD_SEPARATOR_REGEX, 3);
+                tasks.editTask(Integer.parseInt(edit[0]), edit[1], edit[2]);
+                break;
+            case DELETE_RECORD:
+                tasks.deleteTask(Integer.parseInt(parts[1]));
+                break;
+            default:
+                throw new TweetyException("Unknown journal record: " + parts[0]);
+        }
+    }
+
+    /**
+     * Converts the mutations recorded by the task list since the previous save into pending journal lines,
+     * and schedules a compaction once the journal has grown past the threshold.
+     */
+    private void queueJournalLines(TaskList tasks) {
+        TaskSnapshot snapshot = tasks.drainMutationsToSnapshot();
+        List<TaskMutation> mutations = snapshot.getMutations();
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        if (!isJournalStarted) {
+            pendingJournalLines.add(GENERATION_PREFIX + generation);
+            isJournalStarted = true;
+        }
+        for (TaskMutation mutation : mutations) {
+            pendingJournalLines.add(convertMutationToJournalString(mutation));
+        }
+        journalEntryCount += mutations.size();
+
+        if (journalEntryCount >= compactionThreshold && !isCompacting) {
+            scheduleCompaction(snapshot);
+        }
+    }
+
+    /**
+     * Schedules a compaction that rotates the current journal aside and writes the given snapshot.
+     * The snapshot holds exactly the mutations journaled so far, so later mutations cannot leak into the new
+     * file; those go to a fresh journal written on top of the new generation. The snapshot is only encoded
+     * once the compaction runs, off the thread that saves.
+     */
+    private void scheduleCompaction(TaskSnapshot snapshot) {
+        pendingCompaction = snapshot;
+        pendingCompactionGeneration = generation + 1;
+        pendingCompactionSplit = pendingJournalLines.size();
+        generation++;
+        journalEntryCount = 0;
+        isJournalStarted = false;
+        isCompacting = true;
+    }
+
+    /**
+     * Writes out everything saved since the previous call.
+     * Runs on the writer thread in asynchronous mode and on the caller's thread otherwise.
+     */
+    private void writePending() {
+        List<String> journalLines;
+        int compactionSplit;
+        TaskSnapshot compaction;
+        long compactionGeneration;
+        TaskSnapshot snapshot;
+        boolean isFoldNeeded;
+        synchronized (this) {
+            isFoldNeeded = isCompactionFailed;
+            journalLines = pendingJournalLines;
+            compactionSplit = pendingCompactionSplit;
+            compaction = pendingCompaction;
+            compactionGeneration = pendingCompactionGeneration;
+            snapshot = pendingSnapshot;
+            pendingJournalLines = new ArrayList<>();
+            pendingCompaction = null;
+            pendingSnapshot = null;
+        }
+
+        try {
+            ensureDirectoryExists();
+
+            if (isFoldNeeded) {
+                foldRotatedJournal();
+            }
+            if (compaction == null) {
+                appendJournalLines(journalLines);
+            } else {
+                appendJournalLines(journalLines.subList(0, compactionSplit));
+                boolean isRotated = rotateJournal();
+                appendJournalLines(journalLines.subList(compactionSplit, journalLines.size()));
+                if (isRotated) {
+                    compactor.execute(() -> compact(compactionGeneration, convertTasksToRecords(compaction)));
+                } else {
+                    synchronized (this) {
+                        // The journal still holds the old generation, so the next compaction starts from it again
+                        generation = compactionGeneration - 1;
+                        isCompacting = false;
+                    }
                 }
-                return event;
+            }
+
+            if (snapshot != null) {
+                rewriteTaskFile(convertTasksToRecords(snapshot));
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving tasks: " + e.getMessage());
+        }
+    }
+
+    private void appendJournalLines(List<String> lines) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+        appendLines(journalPath, lines);
+        synchronized (this) {
+            hasJournalFiles = true;
+        }
+    }
+
+    /**
+     * Moves the current journal aside so that its records can be dropped once the compaction is written.
+     * If the journal cannot be moved, the compaction is abandoned and tried again once more records are saved.
+     * The records written afterwards stay in the same journal, where the generation line between them is skipped.
+     *
+     * @return True if the journal was rotated.
+     */
+    private boolean rotateJournal() {
+        try {
+            Files.move(journalPath, rotatedJournalPath);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error compacting tasks: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the compacted task file and drops the rotated journal. If the task file cannot be written,
+     * the rotated journal is left for the writer thread to fold back into the current one, since the records
+     * journaled since then were written on top of the generation that never made it to disk.
+     */
+    private void compact(long newGeneration, List<byte[]> records) {
+        try {
+            format.write(compactionPath, newGeneration, records, isFsyncEnabled);
+            Files.move(compactionPath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(rotatedJournalPath);
+            synchronized (this) {
+                isCompacting = false;
+            }
+        } catch (IOException e) {
+            System.out.println("Error compacting tasks: " + e.getMessage()
+                    + ". The changes are kept in the journal and compacting will be tried again.");
+            synchronized (this) {
+                isCompactionFailed = true;
+            }
+        }
+    }
+
+    /**
+     * Puts the records of the rotated journal back in front of those of the current journal after a failed
+     * compaction, under the generation of the task file that is still on disk, and then allows compacting again.
+     * The generation lines between the records are skipped when the journal is replayed.
+     * If the folded journal has replaced the current one but the rotated journal is still there,
+     * loading the tasks recognises the folded journal by its generation and drops the rotated one.
+     */
+    private void foldRotatedJournal() throws IOException {
+        if (!Files.exists(rotatedJournalPath)) {
+            // The whole task file has been rewritten since, which dropped both journals
+            synchronized (this) {
+                isCompactionFailed = false;
+                isCompacting = false;
+            }
+            return;
+        }
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(rotatedJournalPath));
+        long foldedGeneration = lines.isEmpty() ? -1 : TextTaskFormat.parseGeneration(lines.get(0));
+        int foldedEntries = 0;
+        for (String line : lines) {
+            if (!line.startsWith(GENERATION_PREFIX)) {
+                foldedEntries++;
+            }
+        }
+        if (Files.exists(journalPath)) {
+            lines.addAll(Files.readAllLines(journalPath));
+        }
+
+        Path foldedPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        Files.deleteIfExists(foldedPath);
+        appendLines(foldedPath, lines);
+        Files.move(foldedPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(rotatedJournalPath);
+
+        synchronized (this) {
+            generation = foldedGeneration;
+            journalEntryCount += foldedEntries;
+            isJournalStarted = true;
+            isCompactionFailed = false;
+            isCompacting = false;
+        }
+    }
+
+    /**
+     * Rewrites the whole task file. If journal files exist, the new file is stamped with a fresh generation
+     * before they are deleted, so an interrupted rewrite never causes a journal to be replayed twice.
+     */
+    private void rewriteTaskFile(List<byte[]> records) throws IOException {
+        ensureDirectoryExists();
+
+        long newGeneration;
+        synchronized (this) {
+            if (!isJournaled && !hasJournalFiles) {
+                newGeneration = -1;
+            } else {
+                generation++;
+                newGeneration = generation;
+            }
+        }
+
+        if (newGeneration < 0) {
+            format.write(filePath, newGeneration, records, isFsyncEnabled);
+            return;
+        }
+
+        format.write(compactionPath, newGeneration, records, isFsyncEnabled);
+        Files.move(compactionPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Files.deleteIfExists(journalPath);
+        Files.deleteIfExists(rotatedJournalPath);
+        synchronized (this) {
+            journalEntryCount = 0;
+            isJournalStarted = false;
+            hasJournalFiles = false;
+        }
+    }
+
+    /**
+     * Appends the lines to the file, forcing them to the storage device if fsync is enabled.
+     *
+     * @param path The file to append to.
+     * @param lines The lines to append.
+     */
+    private void appendLines(Path path, List<String> lines) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line).append(System.lineSeparator());
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(content));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (isFsyncEnabled) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private List<byte[]> convertTasksToRecords(TaskSnapshot snapshot) {
+        List<byte[]> records = new ArrayList<>(snapshot.getTaskCount());
+
+        // Convert each task to the record of the configured format
+        for (Task task : snapshot) {
+            records.add(format.encodeTask(task));
+        }
+        return records;
+    }
+
+    /**
+     * Converts a recorded mutation into a single journal line.
+     *
+     * @param mutation mutation to convert.
+     * @return String of the journal record.
+     */
+    private String convertMutationToJournalString(TaskMutation mutation) {
+        switch (mutation.getType()) {
+            case ADD:
+                return ADD_RECORD + FIELD_SEPARATOR + TextTaskFormat.convertTaskToFileString(mutation.getTask());
+            case INSERT:
+                return INSERT_RECORD + FIELD_SEPARATOR + mutation.getTaskNumber() + FIELD_SEPARATOR
+                        + TextTaskFormat.convertTaskToFileString(mutation.getTask());
+            case MARK:
+                return MARK_RECORD + FIELD_SEPARATOR + mutation.getTaskNumber();
+            case UNMARK:
+                return UNMARK_RECORD + FIELD_SEPARATOR + mutation.getTaskNumber();
+            case EDIT:
+                return EDIT_RECORD + FIELD_SEPARATOR + mutation.getTaskNumber() + FIELD_SEPARATOR
+                        + mutation.getField() + FIELD_SEPARATOR + mutation.getNewValue();
+            case DELETE:
+                return DELETE_RECORD + FIELD_SEPARATOR + mutation.getTaskNumber();
             default:
-                return null;
+                throw new AssertionError("Unknown mutation type: " + mutation.getType());
         }
     }
 }
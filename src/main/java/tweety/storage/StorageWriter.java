@@ -0,0 +1,162 @@
+package tweety.storage;
+
+/**
+ * Runs the writes of an asynchronous Storage on a dedicated thread.
+ * Write requests that arrive within the latency window of the first pending request are
+ * coalesced into a single write, so a burst of commands costs one trip to the disk.
+ * If the thread stops for any reason other than being closed, such as an Error thrown by a write,
+ * every later request or flush fails at once instead of waiting for writes that will never happen.
+ */
+class StorageWriter {
+
+    private final Runnable writeAction;
+    private final long maxLatencyMillis;
+
+    private long requestedCount;
+    private long completedCount;
+    private long firstPendingRequestTime;
+    private boolean isFlushRequested;
+    private boolean isClosed;
+    private boolean isStopped;
+    private Throwable stopCause;
+
+    /**
+     * Constructs and starts a StorageWriter.
+     *
+     * @param writeAction The action that writes out everything pending at the time it runs.
+     * @param maxLatencyMillis The longest time a write request may wait to be coalesced with later ones.
+     */
+    StorageWriter(Runnable writeAction, long maxLatencyMillis) {
+        this.writeAction = writeAction;
+        this.maxLatencyMillis = maxLatencyMillis;
+
+        Thread thread = new Thread(this::run, "tweety-storage-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Signals that there is pending data to be written.
+     *
+     * @throws IllegalStateException If the writer is closed or its thread has stopped.
+     */
+    synchronized void requestWrite() {
+        checkRunning();
+        if (requestedCount == completedCount) {
+            firstPendingRequestTime = System.currentTimeMillis();
+        }
+        requestedCount++;
+        notifyAll();
+    }
+
+    /**
+     * Blocks until every write requested before this call has been written out.
+     * Pending writes are started immediately instead of waiting for the latency window to pass.
+     *
+     * @throws IllegalStateException If the writer is closed or its thread stops before the writes are done.
+     */
+    synchronized void flush() {
+        checkRunning();
+        long target = requestedCount;
+        isFlushRequested = true;
+        notifyAll();
+
+        boolean isInterrupted = false;
+        while (completedCount < target && !isStopped) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (completedCount < target) {
+            checkRunning();
+        }
+    }
+
+    /**
+     * Writes out every pending request and then stops the writer thread.
+     * Closing a writer that is already closed does nothing.
+     *
+     * @throws IllegalStateException If the writer thread has stopped before writing out every request.
+     */
+    synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            isClosed = true;
+            notifyAll();
+        }
+    }
+
+    private void checkRunning() {
+        if (isClosed) {
+            throw new IllegalStateException("The storage writer is closed");
+        }
+        if (isStopped) {
+            throw new IllegalStateException("The storage writer has stopped", stopCause);
+        }
+    }
+
+    private void run() {
+        Throwable cause = null;
+        try {
+            writeUntilClosed();
+        } catch (Throwable e) {
+            cause = e;
+            System.out.println("Error saving tasks, no more changes will be saved: " + e);
+        } finally {
+            synchronized (this) {
+                isStopped = true;
+                stopCause = cause;
+                notifyAll();
+            }
+        }
+    }
+
+    private void writeUntilClosed() throws InterruptedException {
+        while (true) {
+            long target;
+            synchronized (this) {
+                while (requestedCount == completedCount) {
+                    if (isClosed) {
+                        return;
+                    }
+                    wait();
+                }
+
+                // Give later requests a chance to join this write
+                long deadline = firstPendingRequestTime + maxLatencyMillis;
+                long remaining = deadline - System.currentTimeMillis();
+                while (!isFlushRequested && remaining > 0) {
+                    wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+
+                target = requestedCount;
+                isFlushRequested = false;
+            }
+
+            try {
+                writeAction.run();
+            } catch (RuntimeException e) {
+                System.out.println("Error saving tasks: " + e.getMessage());
+            }
+
+            synchronized (this) {
+                completedCount = target;
+                if (requestedCount > completedCount) {
+                    firstPendingRequestTime = System.currentTimeMillis();
+                }
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package tweety.storage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+import tweety.tasks.ToDo;
+
+/**
+ * Represents a file format that tasks are imported from and exported to, such as CSV or JSON.
+ * Unlike the task file, an exchange file is meant to be read and written by other programs, so every task is
+ * described by named fields: type ("todo", "deadline" or "event"), done, description, by, from and to.
+ * Both directions are streamed, so files of any size are read and written one task at a time.
+ */
+interface TaskExchangeFormat {
+
+    String TYPE_FIELD = "type";
+    String DONE_FIELD = "done";
+    String DESCRIPTION_FIELD = "description";
+    String BY_FIELD = "by";
+    String FROM_FIELD = "from";
+    String TO_FIELD = "to";
+
+    String TODO_TYPE = "todo";
+    String DEADLINE_TYPE = "deadline";
+    String EVENT_TYPE = "event";
+
+    Pattern LINE_BREAK = Pattern.compile("\\s*(\\r\\n|\\r|\\n)\\s*");
+    Pattern SPACED_BAR = Pattern.compile("(?<= )\\|(?= )");
+
+    /**
+     * Writes whatever comes before the first task, such as a header row.
+     *
+     * @param writer The writer of the exchange file.
+     * @throws IOException If the file cannot be written.
+     */
+    void writeStart(Writer writer) throws IOException;
+
+    /**
+     * Writes a single task.
+     *
+     * @param writer The writer of the exchange file.
+     * @param task The task to write.
+     * @param isFirst Whether this is the first task of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    void writeTask(Writer writer, Task task, boolean isFirst) throws IOException;
+
+    /**
+     * Writes whatever comes after the last task, such as a closing bracket.
+     *
+     * @param writer The writer of the exchange file.
+     * @throws IOException If the file cannot be written.
+     */
+    void writeEnd(Writer writer) throws IOException;
+
+    /**
+     * Reads every task of an exchange file incrementally, handing each task over as soon as it is parsed.
+     * Records that are well-formed but do not describe a valid task, such as a deadline without a date,
+     * are skipped.
+     *
+     * @param reader The reader of the exchange file.
+     * @param consumer The consumer receiving the tasks, in file order.
+     * @return The number of records that were skipped.
+     * @throws IOException If the file cannot be read or is malformed.
+     */
+    int read(Reader reader, Consumer<Task> consumer) throws IOException;
+
+    /**
+     * Returns the type name of the task, as written in the type field.
+     *
+     * @param task The task.
+     * @return The type name.
+     */
+    static String getTypeName(Task task) {
+        if (task instanceof Deadline) {
+            return DEADLINE_TYPE;
+        } else if (task instanceof Event) {
+            return EVENT_TYPE;
+        }
+        return TODO_TYPE;
+    }
+
+    /**
+     * Creates a task from the fields of a record.
+     * The type may also be given by its initial ("T", "D" or "E"), and done may be "true", "yes", "x" or "1".
+     * The task file and the journal keep one task per line with its fields separated by " | ", so line breaks
+     * in the text fields are turned into spaces and a " | " into " / ", or the task would not load again.
+     *
+     * @return The task, or null if the fields do not describe a valid task.
+     */
+    static Task createTask(String type, String done, String description, String by, String from, String to) {
+        if (type == null || description == null || description.isBlank()) {
+            return null;
+        }
+        description = normalizeField(description);
+        from = from == null ? null : normalizeField(from);
+        to = to == null ? null : normalizeField(to);
+
+        Task task;
+        switch (type.trim().toLowerCase()) {
+            case TODO_TYPE:
+            case "t":
+                task = new ToDo(description);
+                break;
+            case DEADLINE_TYPE:
+            case "d":
+                if (by == null) {
+                    return null;
+                }
+                try {
+                    task = new Deadline(description, LocalDate.parse(by.trim()));
+                } catch (DateTimeParseException e) {
+                    return null;
+                }
+                break;
+            case EVENT_TYPE:
+            case "e":
+                if (from == null || to == null || from.isBlank() || to.isBlank()) {
+                    return null;
+                }
+                task = new Event(description, from, to);
+                break;
+            default:
+                return null;
+        }
+
+        if (isDone(done)) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Trims the value of a text field and puts it on a single line with no " | " in it.
+     */
+    private static String normalizeField(String value) {
+        String singleLine = LINE_BREAK.matcher(value.trim()).replaceAll(" ");
+        return SPACED_BAR.matcher(singleLine).replaceAll("/");
+    }
+
+    private static boolean isDone(String done) {
+        if (done == null) {
+            return false;
+        }
+        switch (done.trim().toLowerCase()) {
+            case "true":
+            case "yes":
+            case "x":
+            case "1":
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package tweety.storage;
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import tweety.tasks.Task;
+
+/**
+ * Represents an on-disk format of the task file.
+ * A task file consists of a header carrying the generation of the file, followed by one record per task.
+ * Records are encoded independently so that a consistent view of the task list can be captured
+ * quickly and written out later, possibly on another thread.
+ */
+interface TaskFileFormat {
+
+    /**
+     * Returns the file extension used by this format, without the leading dot.
+     *
+     * @return The file extension.
+     */
+    String getExtension();
+
+    /**
+     * Encodes a single task into a record of this format.
+     *
+     * @param task The task to encode.
+     * @return The encoded record.
+     */
+    byte[] encodeTask(Task task);
+
+    /**
+     * Writes a complete task file.
+     *
+     * @param path The file to write.
+     * @param generation The generation to stamp into the header, or -1 if the file needs none.
+     * @param records The encoded task records, in list order.
+     * @param isFsyncEnabled Whether to force the file to the storage device before returning.
+     * @throws IOException If the file cannot be written.
+     */
+    void write(Path path, long generation, List<byte[]> records, boolean isFsyncEnabled) throws IOException;
+
+    /**
+     * Reads every task of a task file incrementally, handing each task over as soon as it is parsed.
+     *
+     * @param path The file to read.
+     * @param consumer The consumer receiving the tasks, in file order.
+     * @return The generation stamped into the header, or 0 if the file has none.
+     * @throws IOException If the file cannot be read or is not of this format.
+     */
+    long read(Path path, Consumer<Task> consumer) throws IOException;
+}
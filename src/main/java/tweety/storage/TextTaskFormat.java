@@ -0,0 +1,166 @@
+package tweety.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+import tweety.tasks.ToDo;
+
+/**
+ * The human-readable task file format, with one pipe-delimited line per task.
+ * e.g. "D | [X] | return book | 2025-09-30"
+ */
+class TextTaskFormat implements TaskFileFormat {
+
+    static final String GENERATION_PREFIX = "# ";
+
+    @Override
+    public String getExtension() {
+        return "txt";
+    }
+
+    @Override
+    public byte[] encodeTask(Task task) {
+        return (convertTaskToFileString(task) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(Path path, long generation, List<byte[]> records, boolean isFsyncEnabled)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (generation >= 0) {
+                writeFully(channel, (GENERATION_PREFIX + generation + System.lineSeparator())
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            for (byte[] record : records) {
+                writeFully(channel, record);
+            }
+            if (isFsyncEnabled) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public long read(Path path, Consumer<Task> consumer) throws IOException {
+        long generation = 0;
+
+        // Stream the tasks from the string file line by line
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line = reader.readLine();
+            if (line != null && line.startsWith(GENERATION_PREFIX)) {
+                generation = parseGeneration(line);
+                line = reader.readLine();
+            }
+
+            while (line != null) {
+                // Convert the string to task object
+                Task currTask = parseTaskFromString(line);
+
+                // Hand the task over to the caller
+                if (currTask != null) {
+                    consumer.accept(currTask);
+                }
+                line = reader.readLine();
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Parses the generation out of a header line.
+     *
+     * @param line The header line.
+     * @return The generation, or -1 if the line is not a valid header.
+     */
+    static long parseGeneration(String line) {
+        if (!line.startsWith(GENERATION_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(line.substring(GENERATION_PREFIX.length()).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Converts tasks into strings to be saved in the storage file.
+     *
+     * @param task task to convert to string to be saved in the storage file.
+     * @return String of the task.
+     */
+    static String convertTaskToFileString(Task task) {
+        // Tasks cache their storage line, so saving unchanged tasks does not format them again
+        return task.toStorageString();
+    }
+
+    /**
+     * Parses tasks from string to tasks when "list" command is used.
+     *
+     * @return Task object by reading the strings in the file.
+     */
+    static Task parseTaskFromString(String line) {
+        // Split the string input into its type, isDone and description
+        String[] parts = line.split(" \\| ");
+        if (parts.length < 3) {
+            return null;
+        }
+        String type = parts[0];
+        boolean isDone = parts[1].equals("[X]");
+        String description = parts[2];
+
+        // Return the string as respective task objects
+        switch (type) {
+            case "T":
+                ToDo todo = new ToDo(description);
+                if (isDone) {
+                    todo.markAsDone();
+                }
+                return todo;
+            case "D":
+                if (parts.length < 4) return null;
+                try {
+                    Deadline deadline = new Deadline(description, parts[3]);
+                    if (isDone) {
+                        deadline.markAsDone();
+                    }
+                    return deadline;
+                } catch (TweetyException e) {
+                    System.out.println(e.getMessage());
+                    return null;
+                }
+            case "E":
+                if (parts.length < 5) return null;
+                Event event = new Event(description, parts[3], parts[4]);
+                if (isDone) {
+                    event.markAsDone();
+                }
+                return event;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package tweety.storage;
+
+import java.io.IOException;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import tweety.Settings;
+
+import tweety.exceptions.TweetyException;
+
+import tweety.tasks.TaskList;
+
+/**
+ * Keeps the named task lists of the Tweety application, each in its own storage file, and which one is current.
+ * The main list is kept in the task file Tweety has always used, and every other list in a file of its own
+ * under the lists directory. A list is only read from its file when it is first switched to, and only the
+ * lists used most recently are kept in memory: once more lists are loaded than the cap allows, the one used
+ * least recently is saved and dropped, so memory stays bounded however many lists there are.
+ * A dropped list is read again the next time it is switched to, but its undo history is lost.
+ */
+public class Workspaces {
+
+    /** The name of the list Tweety starts with, kept in the original task file. */
+    public static final String MAIN_LIST = "main";
+
+    private static final String MAIN_FILE_NAME = "Tweety";
+    private static final String LISTS_DIRECTORY_NAME = "lists";
+    private static final String[] TASK_FILE_EXTENSIONS = {".txt", ".bin", ".journal"};
+    private static final Pattern LIST_NAME = Pattern.compile("[a-z0-9][a-z0-9_-]{0,31}");
+
+    private final Path directoryPath;
+    private final Path listsDirectoryPath;
+    private final int maxLoadedLists;
+
+    // Ordered from the list used least recently to the one used most recently
+    private final LinkedHashMap<String, Workspace> loadedLists = new LinkedHashMap<>(16, 0.75f, true);
+    private Workspace current;
+    private boolean isDeferringSaves;
+
+    private static class Workspace {
+        final String name;
+        final Storage storage;
+        final TaskList tasks;
+        final CompletableFuture<Void> tasksLoaded;
+
+        Workspace(String name, Storage storage) {
+            this.name = name;
+            this.storage = storage;
+            this.tasks = new TaskList();
+            this.tasksLoaded = storage.loadTasksInBackground(tasks);
+        }
+    }
+
+    public Workspaces() {
+        this(Paths.get("data/"), Settings.getMaxLoadedLists());
+    }
+
+    /**
+     * Constructs Workspaces keeping its task files in the given directory, and starts loading the main list.
+     *
+     * @param directoryPath The directory of the main task file, which holds the lists directory.
+     * @param maxLoadedLists The most lists kept in memory at once.
+     */
+    public Workspaces(Path directoryPath, int maxLoadedLists) {
+        assert maxLoadedLists > 0 : "maxLoadedLists should be positive";
+
+        this.directoryPath = directoryPath;
+        this.listsDirectoryPath = directoryPath.resolve(LISTS_DIRECTORY_NAME);
+        this.maxLoadedLists = maxLoadedLists;
+        this.current = load(MAIN_LIST);
+    }
+
+    /**
+     * Makes the named list the current one, loading it in the background if it is not in memory.
+     * A list that has no file yet starts out empty, and its file is created when it is first saved.
+     *
+     * @param name The name of the list, which is not case-sensitive.
+     * @throws TweetyException If the name is not a valid list name.
+     */
+    public synchronized void switchTo(String name) throws TweetyException {
+        String key = name.trim().toLowerCase(Locale.ROOT);
+        if (!LIST_NAME.matcher(key).matches()) {
+            throw new TweetyException("Aww, hon, a list name can only have up to 32 letters, numbers, - and _!");
+        }
+
+        Workspace workspace = loadedLists.get(key);
+        current = workspace != null ? workspace : load(key);
+    }
+
+    private Workspace load(String name) {
+        Storage storage = MAIN_LIST.equals(name)
+                ? new Storage(directoryPath.resolve(MAIN_FILE_NAME + ".txt"), directoryPath)
+                : new Storage(listsDirectoryPath.resolve(name + ".txt"), listsDirectoryPath);
+        storage.setSavesDeferred(isDeferringSaves);
+        Workspace workspace = new Workspace(name, storage);
+        loadedLists.put(name, workspace);
+        evictIdleLists();
+        return workspace;
+    }
+
+    /**
+     * Drops the lists used least recently, once their pending saves are written, until no more than the cap
+     * are loaded.
+     * The list just loaded is the most recently used one, so it is never dropped.
+     */
+    private void evictIdleLists() {
+        Iterator<Workspace> leastRecentlyUsed = loadedLists.values().iterator();
+        while (loadedLists.size() > maxLoadedLists) {
+            Workspace workspace = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            // Every command saves its list, so closing only has to write out what is still pending
+            workspace.tasksLoaded.join();
+            workspace.storage.close();
+        }
+    }
+
+    public synchronized String getCurrentName() {
+        return current.name;
+    }
+
+    /**
+     * Returns the current task list, waiting until all of its saved tasks have been loaded.
+     *
+     * @return The current task list.
+     */
+    public synchronized TaskList getCurrentTasks() {
+        current.tasksLoaded.join();
+        return current.tasks;
+    }
+
+    public synchronized Storage getCurrentStorage() {
+        return current.storage;
+    }
+
+    /**
+     * Returns the names of every list, whether it is loaded or only saved, in alphabetical order.
+     *
+     * @return The names of the lists.
+     */
+    public synchronized List<String> getListNames() {
+        TreeSet<String> names = new TreeSet<>(loadedLists.keySet());
+        names.add(MAIN_LIST);
+        if (Files.isDirectory(listsDirectoryPath)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(listsDirectoryPath)) {
+                for (Path file : files) {
+                    String name = getListName(file.getFileName().toString());
+                    if (name != null) {
+                        names.add(name);
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("Error reading the lists directory: " + e.getMessage());
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    private static String getListName(String fileName) {
+        for (String extension : TASK_FILE_EXTENSIONS) {
+            if (fileName.endsWith(extension)) {
+                String name = fileName.substring(0, fileName.length() - extension.length());
+                return LIST_NAME.matcher(name).matches() ? name : null;
+            }
+        }
+        return null;
+    }
+
+    public synchronized boolean isLoaded(String name) {
+        return loadedLists.containsKey(name);
+    }
+
+    /**
+     * Starts or stops deferring saves for every list, including lists loaded later.
+     *
+     * @param isDeferred Whether saves should be deferred.
+     */
+    public synchronized void setSavesDeferred(boolean isDeferred) {
+        isDeferringSaves = isDeferred;
+        for (Workspace workspace : loadedLists.values()) {
+            workspace.storage.setSavesDeferred(isDeferred);
+        }
+    }
+
+    /**
+     * Writes the saves held back while saves are deferred, for every loaded list.
+     */
+    public synchronized void saveDeferredTasks() {
+        for (Workspace workspace : loadedLists.values()) {
+            workspace.storage.saveDeferredTasks();
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far, for every loaded list, has been written out.
+     */
+    public synchronized void flush() {
+        for (Workspace workspace : loadedLists.values()) {
+            workspace.storage.flush();
+        }
+    }
+}
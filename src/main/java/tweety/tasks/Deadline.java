@@ -12,6 +12,8 @@ import tweety.exceptions.TweetyException;
  * Extends the Task class to include deadline functionality.
  */
 public class Deadline extends Task {
+    private static final DateTimeFormatter DISPLAY_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
+
     protected LocalDate deadline;
 
     /**
@@ -22,14 +24,34 @@ public class Deadline extends Task {
      */
     public Deadline(String description, String deadline) throws TweetyException{
         super(description);
+        this.deadline = parseDeadline(deadline);
+    }
+
+    private static LocalDate parseDeadline(String deadline) throws TweetyException {
         try {
-            this.deadline = LocalDate.parse(deadline);
+            return LocalDate.parse(deadline);
         } catch (DateTimeParseException e) {
             throw new TweetyException("Oopsie, hon! Invalid date format: " + deadline +
                     ". Aww, Please use yyyy-mm-dd format (e.g. 2025-9-30)");
         }
     }
 
+    /**
+     * Creates a new deadline task with the specified description and an already parsed deadline.
+     *
+     * @param description the task description
+     * @param deadline the deadline for completing the task
+     */
+    public Deadline(String description, LocalDate deadline) {
+        super(description);
+        this.deadline = deadline;
+    }
+
+    @Override
+    protected Task copy() {
+        return new Deadline(description, deadline);
+    }
+
     @Override
     public void editField(String field, String newValue) throws TweetyException {
         switch (field) {
@@ -45,17 +67,35 @@ public class Deadline extends Task {
         }
     }
 
+    @Override
+    public String getFieldValue(String field) {
+        return "deadline".equals(field) ? deadline.toString() : super.getFieldValue(field);
+    }
+
     public LocalDate getDeadline() {
         return this.deadline;
     }
 
-    public void setDeadline(String by) {
-        this.deadline = LocalDate.parse(by);
+    /**
+     * Changes the deadline of the task.
+     *
+     * @param by The new deadline, in yyyy-mm-dd format.
+     * @throws TweetyException If the deadline is not a valid date, in which case the task is left unchanged.
+     */
+    public void setDeadline(String by) throws TweetyException {
+        checkNotFrozen();
+        this.deadline = parseDeadline(by);
+        invalidateCachedStrings();
     }
 
-   @Override
-    public String toString() {
+    @Override
+    protected String formatDisplayString() {
         return "[D]" + getStatusIcon() + " " + getDescription() + " (by: "
-                + deadline.format(DateTimeFormatter.ofPattern("MMM d yyyy")) + ")";
+                + deadline.format(DISPLAY_DATE_FORMAT) + ")";
+    }
+
+    @Override
+    protected String formatStorageString() {
+        return "D | " + getStatusIcon() + " | " + getDescription() + " | " + deadline;
     }
 }
@@ -0,0 +1,94 @@
+package tweety.tasks;
+
+import java.time.LocalDate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A sorted index from due dates to the ids of the pending deadline tasks due on them.
+ * Dates are keyed by their epoch day, so asking what is due by a date is a range query over the head of the
+ * map, which visits only the matching tasks instead of every task in the list.
+ * Completed deadlines are left out, since they are no longer due.
+ */
+class DeadlineIndex {
+    private final TreeMap<Long, PostingList> postings = new TreeMap<>();
+    private int taskCount;
+
+    /**
+     * Indexes the task under its due date, if it is a deadline that is not completed.
+     * Adding a task that is already indexed has no effect.
+     *
+     * @param task The task to index.
+     */
+    void add(Task task) {
+        if (!(task instanceof Deadline) || task.isCompleted()) {
+            return;
+        }
+        PostingList ids = postings.computeIfAbsent(getKey((Deadline) task), key -> new PostingList());
+        if (!ids.contains(task.id)) {
+            ids.add(task.id);
+            taskCount++;
+        }
+    }
+
+    /**
+     * Removes the task from the index, if it is there under its current due date.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        if (!(task instanceof Deadline)) {
+            return;
+        }
+        long key = getKey((Deadline) task);
+        PostingList ids = postings.get(key);
+        if (ids != null && ids.contains(task.id)) {
+            ids.remove(task.id);
+            taskCount--;
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Hands over the id of every indexed task due on or before the given date,
+     * ordered by due date and then by id.
+     *
+     * @param lastDay The last due date to include.
+     * @param action The action receiving the ids.
+     */
+    void forEachDueBy(LocalDate lastDay, IntConsumer action) {
+        for (PostingList ids : postings.headMap(lastDay.toEpochDay(), true).values()) {
+            ids.forEach(action);
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory used by this index, in bytes.
+     *
+     * @return The estimated memory use.
+     */
+    long estimateMemoryBytes() {
+        // Tree entry and boxed key for every distinct date
+        long bytes = 48;
+        for (Map.Entry<Long, PostingList> entry : postings.entrySet()) {
+            bytes += 40 + 16 + entry.getValue().estimateMemoryBytes();
+        }
+        return bytes;
+    }
+
+    int getDateCount() {
+        return postings.size();
+    }
+
+    int getTaskCount() {
+        return taskCount;
+    }
+
+    private static long getKey(Deadline deadline) {
+        return deadline.getDeadline().toEpochDay();
+    }
+}
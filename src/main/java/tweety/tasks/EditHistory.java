@@ -0,0 +1,103 @@
+package tweety.tasks;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the edits that can be undone and redone, newest first, within a memory budget.
+ * When the edits together take more than the budget, the oldest edits are forgotten, even the one just recorded
+ * if it is larger than the whole budget.
+ */
+class EditHistory {
+    private final long memoryLimitBytes;
+    private final ArrayDeque<UndoableEdit> undoEdits = new ArrayDeque<>();
+    private final ArrayDeque<UndoableEdit> redoEdits = new ArrayDeque<>();
+    private long memoryBytes;
+
+    /**
+     * Constructs an empty EditHistory.
+     *
+     * @param memoryLimitBytes The most memory the edits may take together, in bytes.
+     */
+    EditHistory(long memoryLimitBytes) {
+        this.memoryLimitBytes = memoryLimitBytes;
+    }
+
+    /**
+     * Records a new edit, which can no longer be redone past, so every edit that could be redone is forgotten.
+     *
+     * @param edit The edit to record.
+     */
+    void record(UndoableEdit edit) {
+        while (!redoEdits.isEmpty()) {
+            memoryBytes -= redoEdits.pop().estimateMemoryBytes();
+        }
+        undoEdits.push(edit);
+        memoryBytes += edit.estimateMemoryBytes();
+        trim();
+    }
+
+    /**
+     * Takes the newest edit that can be undone, which can be redone from then on.
+     *
+     * @return The edit, or null if there is none.
+     */
+    UndoableEdit takeUndoEdit() {
+        UndoableEdit edit = undoEdits.poll();
+        if (edit != null) {
+            redoEdits.push(edit);
+        }
+        return edit;
+    }
+
+    /**
+     * Takes the newest edit that can be redone, which can be undone again from then on.
+     *
+     * @return The edit, or null if there is none.
+     */
+    UndoableEdit takeRedoEdit() {
+        UndoableEdit edit = redoEdits.poll();
+        if (edit != null) {
+            undoEdits.push(edit);
+        }
+        return edit;
+    }
+
+    /**
+     * Passes every task that an edit to undo or redo refers to, once for each edit referring to it.
+     *
+     * @param action The action to run on each task.
+     */
+    void forEachTask(Consumer<Task> action) {
+        for (UndoableEdit edit : undoEdits) {
+            edit.getTasks().forEach(action);
+        }
+        for (UndoableEdit edit : redoEdits) {
+            edit.getTasks().forEach(action);
+        }
+    }
+
+    void clear() {
+        undoEdits.clear();
+        redoEdits.clear();
+        memoryBytes = 0;
+    }
+
+    int getUndoCount() {
+        return undoEdits.size();
+    }
+
+    int getRedoCount() {
+        return redoEdits.size();
+    }
+
+    long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    private void trim() {
+        while (memoryBytes > memoryLimitBytes && !undoEdits.isEmpty()) {
+            memoryBytes -= undoEdits.pollLast().estimateMemoryBytes();
+        }
+    }
+}
@@ -2,14 +2,30 @@ package tweety.tasks;
 
 import tweety.exceptions.TweetyException;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 /**
  * Represents Event task with specific start and end date/time.
  * Extends the Task class to include Event functionality.
+ *
+ * <p>The start and end are kept as the text the user typed, which is what is displayed and stored.
+ * When that text is a date such as "2025-10-01" or a date and time such as "2025-10-01 14:00"
+ * (also "2025-10-01 1400" or "2025-10-01T14:00"), the event is also scheduled at the time it describes,
+ * so that it can be found by date. The end may give only a time, such as "16:00", for an event that ends
+ * on the day it starts. A date without a time covers the whole day.
  */
 public class Event extends Task {
+    private static final int DATE_LENGTH = "yyyy-mm-dd".length();
+
     protected String from;
     protected String to;
 
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
     /**
      * Creates a new Event task with the specified description, from and to date/time.
      *
@@ -21,6 +37,32 @@ public class Event extends Task {
         super(description);
         this.from = from;
         this.to = to;
+        scheduleTimes();
+    }
+
+    private Event(Event event) {
+        super(event.description);
+        this.from = event.from;
+        this.to = event.to;
+        this.startTime = event.startTime;
+        this.endTime = event.endTime;
+    }
+
+    @Override
+    protected Task copy() {
+        return new Event(this);
+    }
+
+    @Override
+    public String getFieldValue(String field) {
+        switch (field) {
+            case "from":
+                return from;
+            case "to":
+                return to;
+            default:
+                return super.getFieldValue(field);
+        }
     }
 
     public String getEventStart() {
@@ -31,12 +73,138 @@ public class Event extends Task {
         return this.to;
     }
 
+    /**
+     * Returns whether the start and end of the event describe a date or time it takes place at.
+     *
+     * @return True if the event has a start and end time, false if they are free text.
+     */
+    public boolean isScheduled() {
+        return startTime != null;
+    }
+
+    /**
+     * Returns the time the event starts at, inclusive.
+     *
+     * @return The start time, or null if the event is not scheduled.
+     */
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the time the event ends at, exclusive. An end given as a date is the start of the next day.
+     *
+     * @return The end time, or null if the event is not scheduled.
+     */
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
     public void setFrom(String from) {
+        checkNotFrozen();
         this.from = from;
+        scheduleTimes();
+        invalidateCachedStrings();
     }
 
     public void setTo(String newTo) {
+        checkNotFrozen();
         this.to = newTo;
+        scheduleTimes();
+        invalidateCachedStrings();
+    }
+
+    /**
+     * Works out the start and end time from the text of the start and end.
+     * The event is left unscheduled if either cannot be read as a date or time, or if it ends before it starts.
+     * An event may end at the time it starts, but not on the day before it starts.
+     */
+    private void scheduleTimes() {
+        startTime = null;
+        endTime = null;
+        LocalDateTime start = parseBound(from, null, false);
+        if (start == null) {
+            return;
+        }
+        LocalDateTime end = parseBound(to, start.toLocalDate(), true);
+        boolean isWholeDayEnd = to.trim().length() == DATE_LENGTH;
+        if (end == null || end.isBefore(start) || (isWholeDayEnd && end.equals(start))) {
+            return;
+        }
+        startTime = start;
+        endTime = end;
+    }
+
+    /**
+     * Reads the start or end of an event as a date, a date and time, or a time on the given day.
+     * The text is read by hand rather than with a formatter, so that the many events with free-text times
+     * are rejected without throwing an exception each.
+     *
+     * @param text The text of the start or end.
+     * @param day The day a time without a date falls on, or null if the date is required.
+     * @param isEnd Whether the text is the end, in which case a date alone means the end of that day.
+     * @return The time described by the text, or null if it describes none.
+     */
+    private static LocalDateTime parseBound(String text, LocalDate day, boolean isEnd) {
+        String bound = text.trim();
+        try {
+            if (bound.length() < DATE_LENGTH || bound.charAt(4) != '-' || bound.charAt(7) != '-') {
+                LocalTime time = day == null ? null : parseTime(bound, 0);
+                return time == null ? null : day.atTime(time);
+            }
+
+            int year = parseDigits(bound, 0, 4);
+            int month = parseDigits(bound, 5, 2);
+            int dayOfMonth = parseDigits(bound, 8, 2);
+            if (year < 0 || month < 0 || dayOfMonth < 0) {
+                return null;
+            }
+            LocalDate date = LocalDate.of(year, month, dayOfMonth);
+            if (bound.length() == DATE_LENGTH) {
+                return isEnd ? date.plusDays(1).atStartOfDay() : date.atStartOfDay();
+            }
+
+            char separator = bound.charAt(DATE_LENGTH);
+            if (separator != ' ' && separator != 'T') {
+                return null;
+            }
+            LocalTime time = parseTime(bound, DATE_LENGTH + 1);
+            return time == null ? null : date.atTime(time);
+        } catch (DateTimeException e) {
+            // Well-formed but out of range, such as February 30th
+            return null;
+        }
+    }
+
+    /**
+     * Reads a time written as "HH:mm" or "HHmm" that runs to the end of the text.
+     *
+     * @return The time, or null if the text from the given position is not a time.
+     */
+    private static LocalTime parseTime(String text, int start) {
+        int length = text.length() - start;
+        int minuteStart = length == 5 && text.charAt(start + 2) == ':' ? start + 3 : start + 2;
+        if (length != 4 && minuteStart != start + 3) {
+            return null;
+        }
+        int hour = parseDigits(text, start, 2);
+        int minute = parseDigits(text, minuteStart, 2);
+        if (hour < 0 || minute < 0) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    private static int parseDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
     }
 
     @Override
@@ -58,8 +226,13 @@ public class Event extends Task {
     }
 
     @Override
-    public String toString() {
+    protected String formatDisplayString() {
         return "[E]" + getStatusIcon() + " " + getDescription()
                 + " (from: " + this.from + " to: " + this.to + ")";
     }
+
+    @Override
+    protected String formatStorageString() {
+        return "E | " + getStatusIcon() + " | " + getDescription() + " | " + this.from + " | " + this.to;
+    }
 }
@@ -0,0 +1,28 @@
+package tweety.tasks;
+
+/**
+ * Represents two events in a task list whose times overlap.
+ */
+public class EventConflict {
+    private final Event earlierEvent;
+    private final Event laterEvent;
+
+    /**
+     * Creates a conflict between two overlapping events.
+     *
+     * @param earlierEvent The event that starts first.
+     * @param laterEvent The event that starts while the first one is still going on.
+     */
+    public EventConflict(Event earlierEvent, Event laterEvent) {
+        this.earlierEvent = earlierEvent;
+        this.laterEvent = laterEvent;
+    }
+
+    public Event getEarlierEvent() {
+        return earlierEvent;
+    }
+
+    public Event getLaterEvent() {
+        return laterEvent;
+    }
+}
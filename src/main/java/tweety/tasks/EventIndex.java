@@ -0,0 +1,253 @@
+package tweety.tasks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * An interval tree over the scheduled events of a task list, for finding the events that overlap a period.
+ * The tree is a treap ordered by start time, where every node also keeps the latest end time in its subtree,
+ * so a search skips every subtree that ends before the period starts and every node that starts after it ends.
+ * Finding the k events in a period of a list of n events takes O(log n + k) expected time.
+ *
+ * <p>Times are kept as seconds since the epoch, and every event covers the half-open interval from its
+ * start to its end. An event that ends when it starts is treated as lasting one second, so it is still found.
+ */
+class EventIndex {
+    private final SplittableRandom random = new SplittableRandom(0);
+    private Node root;
+    private int eventCount;
+
+    private static class Node {
+        final long start;
+        final long end;
+        final int id;
+        final int priority;
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(long start, long end, int id, int priority) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        /**
+         * Orders nodes by start time, and nodes starting at the same time by task id.
+         */
+        boolean isBefore(long otherStart, int otherId) {
+            return start < otherStart || (start == otherStart && id < otherId);
+        }
+    }
+
+    /**
+     * Indexes the task under its start and end time, if it is a scheduled event.
+     *
+     * @param task The task to index.
+     */
+    void add(Task task) {
+        if (!(task instanceof Event) || !((Event) task).isScheduled()) {
+            return;
+        }
+        Event event = (Event) task;
+        long start = toSeconds(event.getStartTime());
+        long end = Math.max(toSeconds(event.getEndTime()), start + 1);
+        root = insert(root, new Node(start, end, task.id, random.nextInt()));
+        eventCount++;
+    }
+
+    /**
+     * Removes the task from the index, if it is there under its current start time.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        if (!(task instanceof Event) || !((Event) task).isScheduled()) {
+            return;
+        }
+        root = delete(root, toSeconds(((Event) task).getStartTime()), task.id);
+    }
+
+    private Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.isBefore(node.start, node.id)) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node delete(Node node, long start, int id) {
+        if (node == null) {
+            return null;
+        }
+        if (node.start == start && node.id == id) {
+            eventCount--;
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(start, id)) {
+            node.right = delete(node.right, start, id);
+        } else {
+            node.left = delete(node.left, start, id);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every node of the left one comes before every node of the right one.
+     */
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    /**
+     * Hands over the id of every indexed event that overlaps the period, in order of start time.
+     *
+     * @param periodStart The start of the period, inclusive.
+     * @param periodEnd The end of the period, exclusive.
+     * @param action The action receiving the ids.
+     */
+    void forEachOverlapping(LocalDateTime periodStart, LocalDateTime periodEnd, IntConsumer action) {
+        collectOverlapping(root, toSeconds(periodStart), toSeconds(periodEnd), action);
+    }
+
+    private void collectOverlapping(Node node, long periodStart, long periodEnd, IntConsumer action) {
+        if (node == null || node.maxEnd <= periodStart) {
+            // Nothing in this subtree is still going on when the period starts
+            return;
+        }
+        collectOverlapping(node.left, periodStart, periodEnd, action);
+        if (node.start >= periodEnd) {
+            // This node, and everything to its right, starts after the period
+            return;
+        }
+        if (node.end > periodStart) {
+            action.accept(node.id);
+        }
+        collectOverlapping(node.right, periodStart, periodEnd, action);
+    }
+
+    /**
+     * Hands over every pair of indexed events that overlap each other, among the events the filter accepts.
+     * The events are swept in order of start time, keeping the ones still going on, so every event is looked at
+     * once when it starts and once when it is found to have ended. For n events and k pairs, this takes
+     * O(n + k) time on top of walking the tree.
+     *
+     * @param filter Tells whether an event, given by its id, takes part.
+     * @param action The action receiving each pair, as the id of the event starting first and then the other,
+     *     ordered by the start of the later event and then of the earlier one.
+     */
+    void forEachOverlappingPair(IntPredicate filter, PairConsumer action) {
+        ArrayList<Node> nodes = new ArrayList<>(eventCount);
+        collectInOrder(root, nodes);
+
+        ArrayList<Node> ongoing = new ArrayList<>();
+        for (Node node : nodes) {
+            if (!filter.test(node.id)) {
+                continue;
+            }
+            int ongoingCount = 0;
+            for (Node other : ongoing) {
+                if (other.end > node.start) {
+                    ongoing.set(ongoingCount++, other);
+                    action.accept(other.id, node.id);
+                }
+            }
+            ongoing.subList(ongoingCount, ongoing.size()).clear();
+            ongoing.add(node);
+        }
+    }
+
+    /**
+     * Receives a pair of task ids.
+     */
+    interface PairConsumer {
+        void accept(int firstId, int secondId);
+    }
+
+    private void collectInOrder(Node node, ArrayList<Node> nodes) {
+        if (node == null) {
+            return;
+        }
+        collectInOrder(node.left, nodes);
+        nodes.add(node);
+        collectInOrder(node.right, nodes);
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory used by this index, in bytes.
+     *
+     * @return The estimated memory use.
+     */
+    long estimateMemoryBytes() {
+        // Object header, three longs, two ints and two references per node
+        return 24 + 56L * eventCount;
+    }
+
+    int getEventCount() {
+        return eventCount;
+    }
+
+    private static long toSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
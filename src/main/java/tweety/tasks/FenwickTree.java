@@ -0,0 +1,93 @@
+package tweety.tasks;
+
+/**
+ * A Fenwick tree (binary indexed tree) counting which slots of a TaskList are occupied.
+ * It turns a 1-based display position into a slot and back in O(log n), so tasks can stay in their slots
+ * when earlier tasks are deleted instead of being shifted down.
+ */
+class FenwickTree {
+    private int[] tree;
+
+    /**
+     * Constructs a FenwickTree with every slot from 1 to capacity empty.
+     *
+     * @param capacity The highest slot the tree can count.
+     */
+    FenwickTree(int capacity) {
+        this.tree = new int[capacity + 1];
+    }
+
+    int getCapacity() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Grows the tree so it can count slots up to the new capacity.
+     * The counts of the existing slots are recomputed from the given occupancy, in O(capacity).
+     *
+     * @param newCapacity The new highest slot.
+     * @param occupied The slots that are occupied, where slot i is occupied if {@code occupied[i] != null}.
+     */
+    void grow(int newCapacity, Object[] occupied) {
+        tree = new int[newCapacity + 1];
+        for (int slot = 1; slot < occupied.length && slot <= newCapacity; slot++) {
+            if (occupied[slot] != null) {
+                tree[slot]++;
+            }
+        }
+        // Push every node's count up to its parent, building the whole tree in linear time
+        for (int slot = 1; slot <= newCapacity; slot++) {
+            int parent = slot + (slot & -slot);
+            if (parent <= newCapacity) {
+                tree[parent] += tree[slot];
+            }
+        }
+    }
+
+    /**
+     * Adds delta to the count of the slot.
+     *
+     * @param slot The 1-based slot to update.
+     * @param delta 1 when the slot is filled, -1 when it is emptied.
+     */
+    void add(int slot, int delta) {
+        for (int i = slot; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of occupied slots from 1 up to and including the given slot,
+     * which is the display position of the task in that slot.
+     *
+     * @param slot The 1-based slot.
+     * @return The number of occupied slots up to the slot.
+     */
+    int prefixCount(int slot) {
+        int count = 0;
+        for (int i = Math.min(slot, tree.length - 1); i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slot holding the k-th occupied slot, which is the slot of the task at display position k.
+     * The position must be between 1 and the number of occupied slots.
+     *
+     * @param k The 1-based display position.
+     * @return The slot of the k-th occupied slot.
+     */
+    int findKth(int k) {
+        int slot = 0;
+        int remaining = k;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next < tree.length && tree[next] < remaining) {
+                slot = next;
+                remaining -= tree[next];
+            }
+        }
+        return slot + 1;
+    }
+}
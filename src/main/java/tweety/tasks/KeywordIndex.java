@@ -0,0 +1,95 @@
+package tweety.tasks;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An inverted index from the lowercased words of task descriptions to the ids of the tasks containing them.
+ * Words are the maximal runs of non-whitespace characters, so a keyword without whitespace occurs in a
+ * description exactly when it occurs in one of its words. This lets a keyword search scan the distinct words
+ * of the whole list instead of every task.
+ */
+class KeywordIndex {
+    private final HashMap<String, PostingList> postings = new HashMap<>();
+
+    /**
+     * Indexes the words of the task's description under the task's id.
+     *
+     * @param task The task to index.
+     */
+    void add(Task task) {
+        forEachWord(task.getDescription(), word -> postings.computeIfAbsent(word, key -> new PostingList()).add(task.id));
+    }
+
+    /**
+     * Removes the task's id from the words of its current description.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        forEachWord(task.getDescription(), word -> {
+            PostingList ids = postings.get(word);
+            if (ids != null) {
+                ids.remove(task.id);
+                if (ids.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory used by this index, in bytes.
+     *
+     * @return The estimated memory use.
+     */
+    long estimateMemoryBytes() {
+        // Hash table slot, map entry and word string for every distinct word
+        long bytes = 16 + (long) Integer.BYTES * Integer.highestOneBit(Math.max(1, postings.size() * 2));
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            bytes += 32 + 40 + entry.getKey().length() + entry.getValue().estimateMemoryBytes();
+        }
+        return bytes;
+    }
+
+    int getWordCount() {
+        return postings.size();
+    }
+
+    private void forEachWord(String description, Consumer<String> action) {
+        String lowerDescription = description.toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= lowerDescription.length(); i++) {
+            boolean isWordEnd = i == lowerDescription.length() || Character.isWhitespace(lowerDescription.charAt(i));
+            if (isWordEnd && start >= 0) {
+                action.accept(lowerDescription.substring(start, i));
+                start = -1;
+            } else if (!isWordEnd && start < 0) {
+                start = i;
+            }
+        }
+    }
+
+    /**
+     * Collects the ids of every task with a word containing the given lowercased keyword.
+     * The keyword must not contain whitespace.
+     *
+     * <p>This is always a scan of the whole vocabulary: a keyword matches inside longer words too, such as
+     * "book" in "notebook", so even a keyword that is a word of its own cannot be answered from its posting
+     * list alone.
+     *
+     * @param keyword The lowercased keyword to search for.
+     * @param result The set to add the matching task ids to.
+     */
+    void collectContaining(String keyword, BitSet result) {
+        assert keyword.chars().noneMatch(Character::isWhitespace) : "keyword should be a single word";
+
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            if (entry.getKey().contains(keyword)) {
+                entry.getValue().addAllTo(result);
+            }
+        }
+    }
+}
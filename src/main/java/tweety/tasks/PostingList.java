@@ -0,0 +1,127 @@
+package tweety.tasks;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A sorted set of task ids, stored as a growable int array.
+ * Task ids are handed out in increasing order, so adding the id of a new task is an append.
+ */
+class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds the id to the list, keeping it sorted. Adding an id that is already present has no effect.
+     *
+     * @param id The task id to add.
+     */
+    void add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            insertAt(-index - 1, id);
+            return;
+        }
+
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    private void insertAt(int index, int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+
+    /**
+     * Removes the id from the list, if present.
+     *
+     * @param id The task id to remove.
+     */
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory used by this list, in bytes.
+     *
+     * @return The estimated memory use.
+     */
+    long estimateMemoryBytes() {
+        // Object header and fields, plus the array header and its slots
+        return 24 + 16 + (long) Integer.BYTES * ids.length;
+    }
+
+    /**
+     * Hands over every id in this list, in increasing order.
+     *
+     * @param action The action receiving the ids.
+     */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(ids[i]);
+        }
+    }
+
+    /**
+     * Adds every id in this list to the given set.
+     *
+     * @param result The set to add the ids to.
+     */
+    void addAllTo(BitSet result) {
+        for (int i = 0; i < size; i++) {
+            result.set(ids[i]);
+        }
+    }
+
+    /**
+     * Adds to the given set every id in this list that is also in all of the other lists.
+     *
+     * @param others The lists to intersect with, preferably the shortest first.
+     * @param result The set to add the common ids to.
+     */
+    void addCommonTo(List<PostingList> others, BitSet result) {
+        for (int i = 0; i < size; i++) {
+            int id = ids[i];
+            boolean isCommon = true;
+            for (PostingList other : others) {
+                if (!other.contains(id)) {
+                    isCommon = false;
+                    break;
+                }
+            }
+            if (isCommon) {
+                result.set(id);
+            }
+        }
+    }
+}
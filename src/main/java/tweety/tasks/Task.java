@@ -5,11 +5,21 @@ import tweety.exceptions.TweetyException;
 /**
  * Represents a generic task with description and completion status.
  * Serves as the base class for all task types in the Tweety application.
+ * The display and storage strings of a task are built once and cached until the task changes,
+ * so listing or saving a large list does not format every task again.
+ * A task can also be frozen into a copy that never changes, to be kept in a {@link TaskSnapshot}.
  */
 public abstract class Task {
     protected String description;
     protected boolean isCompleted;
 
+    private String displayString;
+    private String storageString;
+    private boolean isFrozen;
+
+    /** Identifies the task within the TaskList holding it, assigned when the task is added. */
+    int id;
+
     /**
      * Creates a new task with the specified description.
      * The task is initially marked as not completed.
@@ -22,6 +32,43 @@ public abstract class Task {
     }
 
 
+    /**
+     * Creates a new task of the same type with the same fields, except for the completion status and the id.
+     *
+     * @return The copy.
+     */
+    protected abstract Task copy();
+
+    /**
+     * Returns a copy of this task as it is now, which can be read but never changed again.
+     *
+     * @return The frozen copy.
+     */
+    Task freeze() {
+        Task frozen = copy();
+        frozen.id = id;
+        frozen.isCompleted = isCompleted;
+        frozen.displayString = displayString;
+        frozen.storageString = storageString;
+        frozen.isFrozen = true;
+        return frozen;
+    }
+
+    boolean isFrozen() {
+        return isFrozen;
+    }
+
+    /**
+     * Must be called before every change to the task, so that a frozen task is never changed.
+     *
+     * @throws UnsupportedOperationException If the task is frozen.
+     */
+    protected void checkNotFrozen() {
+        if (isFrozen) {
+            throw new UnsupportedOperationException("A task in a snapshot cannot be changed");
+        }
+    }
+
     /**
      * Abstract method to edit a specific field of an object to newValue
      *
@@ -30,16 +77,86 @@ public abstract class Task {
      */
     public abstract void editField(String field, String newValue) throws TweetyException;
 
+    /**
+     * Returns the current value of a field, written the way {@link #editField(String, String)} accepts it,
+     * so that an edit can be reversed by editing the field back to this value.
+     *
+     * @param field The field to read.
+     * @return The value of the field, or null if the task has no such field.
+     */
+    public String getFieldValue(String field) {
+        return "description".equals(field) ? description : null;
+    }
+
+    /**
+     * Builds the line shown to the user for this task, e.g. "[T][X] read book".
+     *
+     * @return The display string of the task.
+     */
+    protected abstract String formatDisplayString();
+
+    /**
+     * Builds the line stored in the text task file for this task, e.g. "T | [X] | read book".
+     *
+     * @return The storage string of the task.
+     */
+    protected abstract String formatStorageString();
+
+    /**
+     * Forgets the cached display and storage strings.
+     * Must be called by every method that changes what they show.
+     */
+    protected void invalidateCachedStrings() {
+        displayString = null;
+        storageString = null;
+    }
+
+    @Override
+    public final String toString() {
+        if (displayString == null) {
+            displayString = formatDisplayString();
+        }
+        return displayString;
+    }
+
+    /**
+     * Returns the line stored in the text task file for this task.
+     *
+     * @return The storage string of the task.
+     */
+    public String toStorageString() {
+        if (storageString == null) {
+            storageString = formatStorageString();
+        }
+        return storageString;
+    }
+
     public String getStatusIcon() {
         return isCompleted ? "[X]" : "[ ]";
     }
 
+    public boolean isCompleted() {
+        return this.isCompleted;
+    }
+
+    /**
+     * Returns the id of the task, which stays the same while the task is in its TaskList,
+     * even when tasks before it are deleted.
+     *
+     * @return The id of the task, or 0 if it has not been added to a TaskList.
+     */
+    public int getId() {
+        return this.id;
+    }
+
     public String getDescription() {
         return this.description;
     }
 
     public void setDescription(String newDesc) {
+        checkNotFrozen();
         this.description = newDesc;
+        invalidateCachedStrings();
     }
 
     /**
@@ -47,7 +164,9 @@ public abstract class Task {
      * IsCompleted is set to true.
      */
     public void markAsDone() {
+        checkNotFrozen();
         isCompleted = true;
+        invalidateCachedStrings();
     }
 
     /**
@@ -55,7 +174,9 @@ public abstract class Task {
      * IsCompleted is set to false.
      */
     public void unmark() {
+        checkNotFrozen();
         isCompleted = false;
+        invalidateCachedStrings();
     }
 
 }
@@ -1,33 +1,200 @@
 package tweety.tasks;
 
+import tweety.Settings;
+
 import tweety.exceptions.InvalidTaskNumberException;
 import tweety.exceptions.TweetyException;
 
+import java.time.LocalDate;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Manages a collection of tasks for the Tweety application.
- * Provides functionality to add, delete, mark, unmark and retrieve tasks.
+ * Provides functionality to add, delete, mark, unmark and retrieve tasks,
+ * either by their 1-based position in the list or by their id.
+ * The list is safe to share between threads: methods that only read it take a shared read lock, so any number
+ * of them, such as list and find queries from the server, run at the same time, while methods that change it
+ * take the write lock and run one at a time. The lock is reentrant, since the list calls its own methods,
+ * such as when undoing an edit. Use {@link #read(Reader)} to make several reads that see the same list.
+ *
+ * <p>Each task lives in the slot numbered by its id, and ids increase along the list, so deleting a task
+ * only empties its slot instead of shifting every later task down. A Fenwick tree over the slots maps
+ * between positions and ids in O(log n). Slots are not reused right away, but once fewer than half of the ids
+ * handed out are still in use, every task is given a new id in list order, so the slot array and everything
+ * sized by it shrink back to the number of tasks in the list rather than growing with every task ever added.
+ *
+ * <p>The ids of completed and pending tasks are also kept in two bit sets, along with the number of completed
+ * tasks, so the completed or pending tasks can be listed and counted without looking at the other ones.
+ *
+ * <p>The tasks are also kept in a persistent vector indexed by id, so that {@link #snapshot()} can hand out
+ * the whole list as it is in O(1) without copying it. Later changes copy only the O(log n) nodes of the vector
+ * that a snapshot still shares, replacing the tasks in the snapshot's nodes with frozen copies, so a task is
+ * only held twice while a snapshot taken before it changed is still around.
  */
 public class TaskList {
-    private ArrayList<Task> tasks;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Task[] slots = new Task[INITIAL_CAPACITY];
+    private FenwickTree order = new FenwickTree(INITIAL_CAPACITY - 1);
+    private int taskCount;
+    private BitSet completedIds = new BitSet();
+    private BitSet pendingIds = new BitSet();
+    private int completedCount;
+    private int nextId = 1;
+    // Ids that the last renumbering kept for deleted tasks which only the edit history still refers to
+    private int historyOnlyIdCount;
+    private ArrayList<TaskMutation> pendingMutations = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TaskVector taskVector = new TaskVector(lock.readLock());
+    private KeywordIndex keywordIndex = new KeywordIndex();
+    private DeadlineIndex deadlineIndex = new DeadlineIndex();
+    private EventIndex eventIndex = new EventIndex();
+    private TrigramIndex trigramIndex;
+    private int trigramIndexMinTasks = Settings.isTrigramIndexEnabled()
+            ? Settings.getTrigramIndexMinTasks()
+            : Integer.MAX_VALUE;
+    private EditHistory history = new EditHistory(Settings.getUndoMemoryLimitKilobytes() * 1024L);
+
+    /**
+     * Reads a task list, as an action passed to {@link #read(Reader)}.
+     *
+     * @param <T> The type of the result.
+     * @param <E> The type of exception the action may throw.
+     */
+    @FunctionalInterface
+    public interface Reader<T, E extends Exception> {
+        T read(TaskList tasks) throws E;
+    }
 
     /**
      * Constructs an empty TaskList.
-     * Initialises the task list with an empty ArrayList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+    }
+
+    /**
+     * Constructs an empty TaskList that builds its trigram index once it holds the given number of tasks,
+     * regardless of the settings.
+     *
+     * @param trigramIndexMinTasks The number of tasks at which the trigram index is built.
+     */
+    TaskList(int trigramIndexMinTasks) {
+        this.trigramIndexMinTasks = trigramIndexMinTasks;
     }
 
     /**
      * Constructs a TaskList with existing tasks.
-     * Initialises the task list with the provided ArrayList of tasks.
+     * The tasks are given ids in list order.
      *
      * @param tasks The existing list of tasks to manage.
      */
     public TaskList(ArrayList<Task> tasks) {
-        this.tasks = tasks;
+        for (Task task : tasks) {
+            register(task);
+        }
+    }
+
+    /**
+     * Gives the task the next id, puts it in the slot of that id and indexes it.
+     */
+    private void register(Task task) {
+        if (nextId >= slots.length) {
+            // Renumbering may skip an id, so the next id can already be one past the end
+            slots = Arrays.copyOf(slots, slots.length * 2);
+            order.grow(slots.length - 1, slots);
+        }
+        place(task, nextId++);
+    }
+
+    private void unregister(Task task) {
+        removeStatus(task);
+        removeFromIndexes(task);
+        slots[task.id] = null;
+        taskVector.set(task.id, null);
+        order.add(task.id, -1);
+        taskCount--;
+    }
+
+    /**
+     * Records the task as completed or pending, according to its current status.
+     */
+    private void addStatus(Task task) {
+        if (task.isCompleted()) {
+            completedIds.set(task.id);
+            completedCount++;
+        } else {
+            pendingIds.set(task.id);
+        }
+    }
+
+    /**
+     * Forgets the status recorded for the task, whatever its current status is.
+     */
+    private void removeStatus(Task task) {
+        if (completedIds.get(task.id)) {
+            completedIds.clear(task.id);
+            completedCount--;
+        }
+        pendingIds.clear(task.id);
+    }
+
+    private void addToIndexes(Task task) {
+        keywordIndex.add(task);
+        deadlineIndex.add(task);
+        eventIndex.add(task);
+        if (trigramIndex != null) {
+            trigramIndex.add(task);
+        }
+    }
+
+    private void removeFromIndexes(Task task) {
+        keywordIndex.remove(task);
+        deadlineIndex.remove(task);
+        eventIndex.remove(task);
+        if (trigramIndex != null) {
+            trigramIndex.remove(task);
+        }
+    }
+
+    /**
+     * Builds the trigram index over every task in the list.
+     * Once built, the index is kept up to date even if the list shrinks again.
+     */
+    private void buildTrigramIndex() {
+        trigramIndex = new TrigramIndex();
+        for (int id = 1; id < nextId; id++) {
+            if (slots[id] != null) {
+                trigramIndex.add(slots[id]);
+            }
+        }
+    }
+
+    /**
+     * Runs a read-only action on this list while no other thread can change it, so that every read the action
+     * makes sees the same list. Other readers may run at the same time. The action must not change the list.
+     *
+     * @param reader The action to run.
+     * @param <T> The type of the result.
+     * @param <E> The type of exception the action may throw.
+     * @return The result of the action.
+     * @throws E If the action fails.
+     */
+    public <T, E extends Exception> T read(Reader<T, E> reader) throws E {
+        lock.readLock().lock();
+        try {
+            return reader.read(this);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -36,7 +203,208 @@ public class TaskList {
      * @param task The task to add to the list.
      */
     public void addTask(Task task) {
-        tasks.add(task);
+        lock.writeLock().lock();
+        try {
+            register(task);
+            pendingMutations.add(TaskMutation.add(task));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds several new tasks to the end of the task list at once.
+     * Each task is recorded as added, just as if it had been added with {@link #addTask(Task)}.
+     *
+     * @param newTasks The tasks to add, in list order.
+     */
+    public void addTasks(List<Task> newTasks) {
+        lock.writeLock().lock();
+        try {
+            for (Task task : newTasks) {
+                register(task);
+                pendingMutations.add(TaskMutation.add(task));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends tasks read from storage to the end of the task list.
+     * Unlike {@link #addTask(Task)}, this is not recorded as a change, since the tasks are already saved.
+     *
+     * @param loadedTasks The tasks to append, in list order.
+     */
+    public void addLoadedTasks(List<Task> loadedTasks) {
+        lock.writeLock().lock();
+        try {
+            for (Task task : loadedTasks) {
+                register(task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every task after the given number of tasks together with the mutations that recorded them as added,
+     * as if they had never been added, so saving the list afterwards writes nothing for them.
+     * The tasks must have been the last ones added since the mutations were last drained, such as the tasks
+     * of an import that failed part way through.
+     *
+     * @param keptTaskCount The number of tasks to keep.
+     */
+    public void discardTasksAfter(int keptTaskCount) {
+        lock.writeLock().lock();
+        try {
+            while (taskCount > keptTaskCount) {
+                Task task = slots[order.findKth(taskCount)];
+                TaskMutation mutation = pendingMutations.remove(pendingMutations.size() - 1);
+                assert mutation.getType() == TaskMutation.Type.ADD && mutation.getTask() == task
+                        : "the discarded tasks should be the last ones added";
+                unregister(task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Puts a deleted task back at the position it was deleted from, keeping its id.
+     * Every task that was next to it must still be in the list, as it is when the deletion is undone.
+     *
+     * @param task The deleted task.
+     */
+    public void restoreTask(Task task) {
+        lock.writeLock().lock();
+        try {
+            assert task.id > 0 && task.id < nextId && slots[task.id] == null : "task should have been deleted";
+            place(task, task.id);
+            pendingMutations.add(TaskMutation.insert(order.prefixCount(task.id), task));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts a task at the specified position, shifting the task there and every later task down.
+     * The task takes an unused id between the ids of its new neighbours. When there is none, such as when the
+     * tasks were numbered one after another on loading, every task is given a new id, which rebuilds the indexes.
+     *
+     * @param taskNumber The 1-based position to insert the task at, up to one past the end of the list.
+     * @param task The task to insert.
+     * @throws InvalidTaskNumberException If the position is out of range.
+     */
+    public void insertTask(int taskNumber, Task task) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            if (taskNumber < 1 || taskNumber > taskCount + 1) {
+                throw new InvalidTaskNumberException();
+            }
+            if (taskNumber == taskCount + 1) {
+                register(task);
+            } else {
+                int nextTaskId = order.findKth(taskNumber);
+                int previousTaskId = taskNumber == 1 ? 0 : order.findKth(taskNumber - 1);
+                if (nextTaskId - previousTaskId < 2) {
+                    renumber(taskNumber);
+                    nextTaskId = order.findKth(taskNumber);
+                }
+                place(task, nextTaskId - 1);
+            }
+            pendingMutations.add(TaskMutation.insert(taskNumber, task));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Puts the task in the given unused slot and indexes it.
+     */
+    private void place(Task task, int id) {
+        task.id = id;
+        slots[id] = task;
+        taskVector.set(id, task);
+        order.add(id, 1);
+        taskCount++;
+
+        addStatus(task);
+        addToIndexes(task);
+        if (trigramIndex == null && taskCount >= trigramIndexMinTasks) {
+            buildTrigramIndex();
+        }
+    }
+
+    /**
+     * Gives every task a new id in list order, leaving an unused id just before the task at the given position.
+     * Deleted tasks that the edit history still refers to are given new ids too, in the same order among the
+     * tasks in the list, so that undoing their deletion puts them back where they were.
+     */
+    private void renumber(int gapTaskNumber) {
+        List<Task> allTasks = getAllTasks();
+        List<Task> historyOnlyTasks = getHistoryOnlyTasks();
+        int capacity = INITIAL_CAPACITY;
+        while (capacity <= allTasks.size() + historyOnlyTasks.size() + 1) {
+            capacity *= 2;
+        }
+        slots = new Task[capacity];
+        taskVector.freezeSharedTasks();
+        taskVector = new TaskVector(lock.readLock());
+        order = new FenwickTree(capacity - 1);
+        taskCount = 0;
+        nextId = 1;
+        completedIds = new BitSet();
+        pendingIds = new BitSet();
+        completedCount = 0;
+        keywordIndex = new KeywordIndex();
+        deadlineIndex = new DeadlineIndex();
+        eventIndex = new EventIndex();
+        trigramIndex = null;
+
+        int historyIndex = 0;
+        for (int i = 0; i < allTasks.size(); i++) {
+            Task task = allTasks.get(i);
+            // Both still hold their old ids here, which increase along the list
+            while (historyIndex < historyOnlyTasks.size() && historyOnlyTasks.get(historyIndex).id < task.id) {
+                historyOnlyTasks.get(historyIndex++).id = nextId++;
+            }
+            if (i == gapTaskNumber - 1) {
+                nextId++;
+            }
+            register(task);
+        }
+        while (historyIndex < historyOnlyTasks.size()) {
+            historyOnlyTasks.get(historyIndex++).id = nextId++;
+        }
+        historyOnlyIdCount = historyOnlyTasks.size();
+    }
+
+    /**
+     * Returns the deleted tasks that the edit history still refers to, ordered by id and without duplicates.
+     */
+    private List<Task> getHistoryOnlyTasks() {
+        List<Task> historyOnlyTasks = new ArrayList<>();
+        Set<Task> seenTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        history.forEachTask(task -> {
+            boolean isInList = task.id > 0 && task.id < nextId && slots[task.id] == task;
+            if (!isInList && seenTasks.add(task)) {
+                historyOnlyTasks.add(task);
+            }
+        });
+        historyOnlyTasks.sort(Comparator.comparingInt(task -> task.id));
+        return historyOnlyTasks;
+    }
+
+    /**
+     * Renumbers the tasks once fewer than half of the ids handed out are in use, counting the ids kept for the
+     * edit history at the last renumbering, so that renumbering again takes at least as many deletes as there
+     * are ids. Only called once the history refers to every deleted task that it may undo.
+     */
+    private void compactIdsIfSparse() {
+        if (nextId > INITIAL_CAPACITY && 2L * (taskCount + historyOnlyIdCount) < nextId - 1) {
+            renumber(0);
+        }
     }
 
     /**
@@ -47,10 +415,35 @@ public class TaskList {
      * @throws InvalidTaskNumberException If the task number is invalid or out of range.
      */
     public Task deleteTask(int taskNumber) throws InvalidTaskNumberException {
-        if (taskNumber < 1 || taskNumber > tasks.size()) {
-            throw new InvalidTaskNumberException();
+        lock.writeLock().lock();
+        try {
+            return delete(retrieveTask(taskNumber), taskNumber);
+        } finally {
+            lock.writeLock().unlock();
         }
-        return tasks.remove(taskNumber - 1);
+    }
+
+    /**
+     * Removes and returns the task with the specified id.
+     *
+     * @param id The id of the task to delete.
+     * @return The deleted task.
+     * @throws InvalidTaskNumberException If no task in the list has the id.
+     */
+    public Task deleteTaskById(int id) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            Task task = getTaskById(id);
+            return delete(task, order.prefixCount(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Task delete(Task task, int taskNumber) {
+        unregister(task);
+        pendingMutations.add(TaskMutation.delete(taskNumber));
+        return task;
     }
 
     /**
@@ -62,11 +455,43 @@ public class TaskList {
      * @throws InvalidTaskNumberException If the task number is invalid or out of range.
      */
     public Task editTask(int taskNumber, String field, String newValue) throws TweetyException {
-        Task task = retrieveTask(taskNumber);
-        task.editField(field, newValue);
-        return task;
+        lock.writeLock().lock();
+        try {
+            return edit(retrieveTask(taskNumber), taskNumber, field, newValue);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Edits and returns the task with the specified id.
+     *
+     * @param id The id of the task to edit.
+     * @param field The field to be edited.
+     * @param newValue The new value to the field.
+     * @throws InvalidTaskNumberException If no task in the list has the id.
+     */
+    public Task editTaskById(int id, String field, String newValue) throws TweetyException {
+        lock.writeLock().lock();
+        try {
+            Task task = getTaskById(id);
+            return edit(task, order.prefixCount(id), field, newValue);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
+    private Task edit(Task task, int taskNumber, String field, String newValue) throws TweetyException {
+        taskVector.set(task.id, task);
+        removeFromIndexes(task);
+        try {
+            task.editField(field, newValue);
+        } finally {
+            addToIndexes(task);
+        }
+        pendingMutations.add(TaskMutation.edit(taskNumber, field, newValue));
+        return task;
+    }
 
     /**
      * Marks the specified task as completed.
@@ -76,8 +501,38 @@ public class TaskList {
      * @throws InvalidTaskNumberException If the task number is invalid or out of range.
      */
     public Task markTask(int taskNumber) throws InvalidTaskNumberException {
-        Task task = retrieveTask(taskNumber);
+        lock.writeLock().lock();
+        try {
+            return mark(retrieveTask(taskNumber), taskNumber);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the task with the specified id as completed.
+     *
+     * @param id The id of the task to mark as done.
+     * @return The marked task.
+     * @throws InvalidTaskNumberException If no task in the list has the id.
+     */
+    public Task markTaskById(int id) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            Task task = getTaskById(id);
+            return mark(task, order.prefixCount(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Task mark(Task task, int taskNumber) {
+        removeStatus(task);
+        deadlineIndex.remove(task);
+        taskVector.set(task.id, task);
         task.markAsDone();
+        addStatus(task);
+        pendingMutations.add(TaskMutation.mark(taskNumber));
         return task;
     }
 
@@ -89,11 +544,428 @@ public class TaskList {
      * @throws InvalidTaskNumberException If the task number is invalid or out of range.
      */
     public Task unmarkTask(int taskNumber) throws InvalidTaskNumberException {
-        Task task = retrieveTask(taskNumber);
+        lock.writeLock().lock();
+        try {
+            return unmark(retrieveTask(taskNumber), taskNumber);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the task with the specified id as not completed.
+     *
+     * @param id The id of the task to unmark.
+     * @return The unmarked task.
+     * @throws InvalidTaskNumberException If no task in the list has the id.
+     */
+    public Task unmarkTaskById(int id) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            Task task = getTaskById(id);
+            return unmark(task, order.prefixCount(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Task unmark(Task task, int taskNumber) {
+        removeStatus(task);
+        taskVector.set(task.id, task);
         task.unmark();
+        addStatus(task);
+        deadlineIndex.add(task);
+        pendingMutations.add(TaskMutation.unmark(taskNumber));
         return task;
     }
 
+    /**
+     * Removes and returns every selected task in a single pass.
+     * If any selected task number is out of range, no task is deleted.
+     *
+     * @param selection The tasks to delete.
+     * @return The deleted tasks, in list order.
+     * @throws InvalidTaskNumberException If a selected task number is out of range.
+     */
+    public List<Task> deleteTasks(TaskSelection selection) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            List<Task> selectedTasks = resolve(selection);
+
+            // Record from the back of the list, so that replaying the deletes in order never shifts a later one
+            for (int i = selectedTasks.size() - 1; i >= 0; i--) {
+                pendingMutations.add(TaskMutation.delete(order.prefixCount(selectedTasks.get(i).id)));
+            }
+
+            // Past a few deletes per slot level, recounting every slot once beats updating the tree per task
+            int capacity = slots.length - 1;
+            boolean isRecountCheaper = (long) selectedTasks.size() * Integer.numberOfTrailingZeros(slots.length)
+                    > capacity;
+            for (Task task : selectedTasks) {
+                removeStatus(task);
+                removeFromIndexes(task);
+                slots[task.id] = null;
+                taskVector.set(task.id, null);
+                if (!isRecountCheaper) {
+                    order.add(task.id, -1);
+                }
+            }
+            if (isRecountCheaper) {
+                order.grow(capacity, slots);
+            }
+            taskCount -= selectedTasks.size();
+            return selectedTasks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks every selected task as completed.
+     * If any selected task number is out of range, no task is marked.
+     *
+     * @param selection The tasks to mark as done.
+     * @return The marked tasks, in list order.
+     * @throws InvalidTaskNumberException If a selected task number is out of range.
+     */
+    public List<Task> markTasks(TaskSelection selection) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            List<Task> selectedTasks = resolve(selection);
+            for (Task task : selectedTasks) {
+                mark(task, order.prefixCount(task.id));
+            }
+            return selectedTasks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks every selected task as not completed.
+     * If any selected task number is out of range, no task is unmarked.
+     *
+     * @param selection The tasks to unmark.
+     * @return The unmarked tasks, in list order.
+     * @throws InvalidTaskNumberException If a selected task number is out of range.
+     */
+    public List<Task> unmarkTasks(TaskSelection selection) throws InvalidTaskNumberException {
+        lock.writeLock().lock();
+        try {
+            List<Task> selectedTasks = resolve(selection);
+            for (Task task : selectedTasks) {
+                unmark(task, order.prefixCount(task.id));
+            }
+            return selectedTasks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the selected tasks without changing them, such as to look at them before a bulk command does.
+     *
+     * @param selection The tasks to return.
+     * @return The selected tasks, in list order.
+     * @throws InvalidTaskNumberException If a selected task number is out of range.
+     */
+    public List<Task> selectTasks(TaskSelection selection) throws InvalidTaskNumberException {
+        lock.readLock().lock();
+        try {
+            return resolve(selection);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records the edit made by a command, so that it can be undone.
+     * Recording an edit forgets every edit that could be redone.
+     * Once most of the ids handed out belong to deleted tasks, every task is given a new id, without changing
+     * its position, so the edit must be recorded before the command reads the ids of the tasks again.
+     *
+     * @param edit The edit the command made.
+     */
+    public void recordEdit(UndoableEdit edit) {
+        lock.writeLock().lock();
+        try {
+            history.record(edit);
+            compactIdsIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Undoes the newest edit that has not been undone yet.
+     * If the list is not as the edit left it, the whole history is forgotten, since it no longer applies.
+     *
+     * @return The undone edit, or null if there is nothing to undo.
+     * @throws TweetyException If the edit cannot be undone.
+     */
+    public UndoableEdit undo() throws TweetyException {
+        lock.writeLock().lock();
+        try {
+            UndoableEdit edit = history.takeUndoEdit();
+            if (edit != null) {
+                try {
+                    edit.undo(this);
+                } catch (TweetyException | RuntimeException e) {
+                    history.clear();
+                    throw e;
+                }
+                compactIdsIfSparse();
+            }
+            return edit;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Redoes the newest edit that has been undone.
+     * If the list is not as undoing the edit left it, the whole history is forgotten, since it no longer applies.
+     *
+     * @return The redone edit, or null if there is nothing to redo.
+     * @throws TweetyException If the edit cannot be redone.
+     */
+    public UndoableEdit redo() throws TweetyException {
+        lock.writeLock().lock();
+        try {
+            UndoableEdit edit = history.takeRedoEdit();
+            if (edit != null) {
+                try {
+                    edit.redo(this);
+                } catch (TweetyException | RuntimeException e) {
+                    history.clear();
+                    throw e;
+                }
+                compactIdsIfSparse();
+            }
+            return edit;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the tasks in the selection, in list order and without duplicates.
+     *
+     * @throws InvalidTaskNumberException If a selected task number is out of range.
+     */
+    private List<Task> resolve(TaskSelection selection) throws InvalidTaskNumberException {
+        List<Task> selectedTasks = new ArrayList<>();
+        if (selection.isCompletedSelection()) {
+            return getTasksWithStatus(true);
+        }
+
+        BitSet selectedIds = new BitSet();
+        for (int[] range : selection.getRanges()) {
+            if (range[0] < 1 || range[1] > taskCount) {
+                throw new InvalidTaskNumberException();
+            }
+            // Look every position up, since the slots between two tasks may have been emptied by deletes
+            for (int taskNumber = range[0]; taskNumber <= range[1]; taskNumber++) {
+                selectedIds.set(order.findKth(taskNumber));
+            }
+        }
+        for (int id = selectedIds.nextSetBit(0); id >= 0; id = selectedIds.nextSetBit(id + 1)) {
+            selectedTasks.add(slots[id]);
+        }
+        return selectedTasks;
+    }
+
+    /**
+     * Finds every task whose description contains the keyword, ignoring case.
+     * Keywords of three or more characters are narrowed down with the trigram index when the list has one;
+     * other single-word keywords are answered from the keyword index by scanning the distinct words in the list.
+     * Any other keyword containing whitespace falls back to scanning every task.
+     *
+     * @param keyword The keyword to search for.
+     * @return The matching tasks, in list order.
+     */
+    public ArrayList<Task> findTasks(String keyword) {
+        lock.readLock().lock();
+        try {
+            String lowerKeyword = keyword.toLowerCase();
+            ArrayList<Task> matchingTasks = new ArrayList<>();
+
+            if (trigramIndex != null && lowerKeyword.length() >= TrigramIndex.TRIGRAM_LENGTH) {
+                BitSet candidateIds = new BitSet();
+                trigramIndex.collectCandidates(lowerKeyword, candidateIds);
+                for (int id = candidateIds.nextSetBit(0); id >= 0; id = candidateIds.nextSetBit(id + 1)) {
+                    Task candidate = slots[id];
+                    if (candidate.getDescription().toLowerCase().contains(lowerKeyword)) {
+                        matchingTasks.add(candidate);
+                    }
+                }
+                return matchingTasks;
+            }
+
+            if (lowerKeyword.chars().anyMatch(Character::isWhitespace)) {
+                for (Task task : getAllTasks()) {
+                    if (task.getDescription().toLowerCase().contains(lowerKeyword)) {
+                        matchingTasks.add(task);
+                    }
+                }
+                return matchingTasks;
+            }
+
+            BitSet matchingIds = new BitSet();
+            keywordIndex.collectContaining(lowerKeyword, matchingIds);
+            for (int id = matchingIds.nextSetBit(0); id >= 0; id = matchingIds.nextSetBit(id + 1)) {
+                matchingTasks.add(slots[id]);
+            }
+            return matchingTasks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the completed or the pending tasks, visiting only the slots of tasks with that status.
+     *
+     * @param isCompleted Whether to return the completed tasks rather than the pending ones.
+     * @return The tasks with the status, in list order.
+     */
+    public List<Task> getTasksWithStatus(boolean isCompleted) {
+        lock.readLock().lock();
+        try {
+            BitSet ids = isCompleted ? completedIds : pendingIds;
+            List<Task> tasks = new ArrayList<>(isCompleted ? completedCount : taskCount - completedCount);
+            for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                tasks.add(slots[id]);
+            }
+            return tasks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getCompletedTaskCount() {
+        lock.readLock().lock();
+        try {
+            return completedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getPendingTaskCount() {
+        lock.readLock().lock();
+        try {
+            return taskCount - completedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every deadline that is not completed and is due on or before the given date.
+     * The deadlines are looked up in the deadline index, so only the matching tasks are visited.
+     *
+     * @param lastDay The last due date to include.
+     * @return The matching deadlines, ordered by due date and then by their position in the list.
+     */
+    public List<Task> getDeadlinesDueBy(LocalDate lastDay) {
+        lock.readLock().lock();
+        try {
+            List<Task> dueTasks = new ArrayList<>();
+            deadlineIndex.forEachDueBy(lastDay, id -> dueTasks.add(slots[id]));
+            return dueTasks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every deadline that is not completed and was due before the given date.
+     *
+     * @param today The current date.
+     * @return The overdue deadlines, ordered by due date and then by their position in the list.
+     */
+    public List<Task> getOverdueDeadlines(LocalDate today) {
+        lock.readLock().lock();
+        try {
+            return getDeadlinesDueBy(today.minusDays(1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every scheduled event that takes place at some point between two days, inclusive.
+     * The events are looked up in the event index, so only the matching tasks are visited.
+     *
+     * @param firstDay The first day of the period.
+     * @param lastDay The last day of the period.
+     * @return The matching events, ordered by start time and then by their position in the list.
+     */
+    public List<Task> getEventsBetween(LocalDate firstDay, LocalDate lastDay) {
+        lock.readLock().lock();
+        try {
+            List<Task> events = new ArrayList<>();
+            eventIndex.forEachOverlapping(firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay(),
+                    id -> events.add(slots[id]));
+            return events;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every pair of scheduled events that are not completed and whose times overlap.
+     *
+     * @return The conflicting pairs, ordered by the start time of the later event of each pair.
+     */
+    public List<EventConflict> getEventConflicts() {
+        lock.readLock().lock();
+        try {
+            List<EventConflict> conflicts = new ArrayList<>();
+            eventIndex.forEachOverlappingPair(id -> !slots[id].isCompleted(), (firstId, secondId) ->
+                    conflicts.add(new EventConflict((Event) slots[firstId], (Event) slots[secondId])));
+            return conflicts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a summary of the search indexes kept for this list and their estimated memory use.
+     *
+     * @return One line per index.
+     */
+    public List<String> getIndexStats() {
+        lock.readLock().lock();
+        try {
+            List<String> stats = new ArrayList<>();
+            stats.add("Keyword index: " + keywordIndex.getWordCount() + " words, about "
+                    + toKilobytes(keywordIndex.estimateMemoryBytes()) + " KB");
+            if (trigramIndexMinTasks == Integer.MAX_VALUE) {
+                stats.add("Trigram index: disabled");
+            } else if (trigramIndex == null) {
+                stats.add("Trigram index: off (built once the list has " + trigramIndexMinTasks + " tasks)");
+            } else {
+                stats.add("Trigram index: " + trigramIndex.getTrigramCount() + " trigrams, about "
+                        + toKilobytes(trigramIndex.estimateMemoryBytes()) + " KB");
+            }
+            stats.add("Deadline index: " + deadlineIndex.getTaskCount() + " pending deadlines on "
+                    + deadlineIndex.getDateCount() + " dates, about "
+                    + toKilobytes(deadlineIndex.estimateMemoryBytes()) + " KB");
+            stats.add("Event index: " + eventIndex.getEventCount() + " scheduled events, about "
+                    + toKilobytes(eventIndex.estimateMemoryBytes()) + " KB");
+            stats.add("Undo history: " + history.getUndoCount() + " to undo and " + history.getRedoCount()
+                    + " to redo, about " + toKilobytes(history.getMemoryBytes()) + " KB");
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long toKilobytes(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+
     /**
      * Helper method to check and retrieve task with taskNumber
      *
@@ -102,23 +974,169 @@ public class TaskList {
      * @throws InvalidTaskNumberException If the task number is invalid or out of range.
      */
     public Task retrieveTask(int taskNumber) throws InvalidTaskNumberException{
-        if (taskNumber < 1 || taskNumber > tasks.size()) {
-            throw new InvalidTaskNumberException();
+        lock.readLock().lock();
+        try {
+            if (taskNumber < 1 || taskNumber > taskCount) {
+                throw new InvalidTaskNumberException();
+            }
+
+            return slots[order.findKth(taskNumber)];
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        return tasks.get(taskNumber - 1);
+    /**
+     * Returns the task with the specified id.
+     *
+     * @param id The id of the task.
+     * @return The task with the id.
+     * @throws InvalidTaskNumberException If no task in the list has the id.
+     */
+    public Task getTaskById(int id) throws InvalidTaskNumberException {
+        lock.readLock().lock();
+        try {
+            if (id < 1 || id >= nextId || slots[id] == null) {
+                throw new InvalidTaskNumberException();
+            }
+            return slots[id];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current 1-based position of the task with the specified id.
+     *
+     * @param id The id of the task.
+     * @return The position of the task in the list.
+     * @throws InvalidTaskNumberException If no task in the list has the id.
+     */
+    public int getTaskNumber(int id) throws InvalidTaskNumberException {
+        lock.readLock().lock();
+        try {
+            getTaskById(id);
+            return order.prefixCount(id);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public Task getTask(int taskNumber) {
-        return tasks.get(taskNumber);
+        lock.readLock().lock();
+        try {
+            return slots[order.findKth(taskNumber + 1)];
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
+    /**
+     * Returns a copy of the tasks in the list, in list order.
+     *
+     * @return The tasks in the list.
+     */
     public ArrayList<Task> getAllTasks() {
-        return tasks;
+        lock.readLock().lock();
+        try {
+            ArrayList<Task> allTasks = new ArrayList<>(taskCount);
+            for (int id = 1; id < nextId; id++) {
+                if (slots[id] != null) {
+                    allTasks.add(slots[id]);
+                }
+            }
+            return allTasks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the tasks from one position to another, in list order.
+     * Each task is found in O(log n), however many deleted tasks lie between them, so a page of a huge list
+     * is about as cheap as a page of a short one.
+     *
+     * @param startTaskNumber The 1-based position of the first task.
+     * @param endTaskNumber The 1-based position of the last task, inclusive.
+     * @return The tasks in the range.
+     * @throws InvalidTaskNumberException If the range is empty or reaches outside the list.
+     */
+    public List<Task> getTasks(int startTaskNumber, int endTaskNumber)
+            throws InvalidTaskNumberException {
+        lock.readLock().lock();
+        try {
+            if (startTaskNumber < 1 || endTaskNumber > taskCount || startTaskNumber > endTaskNumber) {
+                throw new InvalidTaskNumberException();
+            }
+
+            // Look every position up, since the slots between two tasks may have been emptied by deletes
+            List<Task> rangeTasks = new ArrayList<>(endTaskNumber - startTaskNumber + 1);
+            for (int taskNumber = startTaskNumber; taskNumber <= endTaskNumber; taskNumber++) {
+                rangeTasks.add(slots[order.findKth(taskNumber)]);
+            }
+            return rangeTasks;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public int getTaskCount() {
-        return tasks.size();
+        lock.readLock().lock();
+        try {
+            return taskCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the list as it is now, which later changes to the list leave as it is.
+     * Taking the snapshot costs O(1), however long the list is.
+     *
+     * @return The snapshot.
+     */
+    public TaskSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            return taskVector.snapshot(taskCount, completedCount, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the list as it is now, together with the changes made to it since mutations were last drained,
+     * and forgets them. Taking both at once ensures that the snapshot holds exactly the drained changes, even if
+     * another thread keeps changing the list.
+     *
+     * @return The snapshot, whose {@link TaskSnapshot#getMutations()} are the drained changes.
+     */
+    public TaskSnapshot drainMutationsToSnapshot() {
+        lock.writeLock().lock();
+        try {
+            TaskSnapshot snapshot = taskVector.snapshot(taskCount, completedCount, pendingMutations);
+            pendingMutations = new ArrayList<>();
+            return snapshot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the changes made to this list since the last call, in the order they happened,
+     * and forgets them.
+     *
+     * @return The mutations recorded since the previous drain.
+     */
+    public List<TaskMutation> drainMutations() {
+        lock.writeLock().lock();
+        try {
+            List<TaskMutation> drained = pendingMutations;
+            pendingMutations = new ArrayList<>();
+            return drained;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
 }
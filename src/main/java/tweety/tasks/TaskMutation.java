@@ -0,0 +1,81 @@
+package tweety.tasks;
+
+/**
+ * Represents a single change made to a TaskList.
+ * Mutations are recorded by the TaskList as they happen so that storage can persist
+ * only what changed instead of rewriting every task.
+ */
+public class TaskMutation {
+
+    /**
+     * Enumeration of all the kinds of changes a TaskList can record.
+     */
+    public enum Type {
+        ADD, INSERT, MARK, UNMARK, EDIT, DELETE
+    }
+
+    private final Type type;
+    private final int taskNumber;
+    private final Task task;
+    private final String field;
+    private final String newValue;
+
+    private TaskMutation(Type type, int taskNumber, Task task, String field, String newValue) {
+        this.type = type;
+        this.taskNumber = taskNumber;
+        this.task = task;
+        this.field = field;
+        this.newValue = newValue;
+    }
+
+    static TaskMutation add(Task task) {
+        return new TaskMutation(Type.ADD, 0, task, null, null);
+    }
+
+    static TaskMutation insert(int taskNumber, Task task) {
+        return new TaskMutation(Type.INSERT, taskNumber, task, null, null);
+    }
+
+    static TaskMutation mark(int taskNumber) {
+        return new TaskMutation(Type.MARK, taskNumber, null, null, null);
+    }
+
+    static TaskMutation unmark(int taskNumber) {
+        return new TaskMutation(Type.UNMARK, taskNumber, null, null, null);
+    }
+
+    static TaskMutation edit(int taskNumber, String field, String newValue) {
+        return new TaskMutation(Type.EDIT, taskNumber, null, field, newValue);
+    }
+
+    static TaskMutation delete(int taskNumber) {
+        return new TaskMutation(Type.DELETE, taskNumber, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the 1-based position of the affected task at the time of the change.
+     * For INSERT mutations, this is the position the task was put at.
+     * Not meaningful for ADD mutations, which always append to the end of the list.
+     *
+     * @return The 1-based task number.
+     */
+    public int getTaskNumber() {
+        return taskNumber;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+}
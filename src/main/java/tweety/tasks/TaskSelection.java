@@ -0,0 +1,53 @@
+package tweety.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes a set of tasks that a bulk command applies to.
+ * A selection is either every completed task, or a union of ranges of 1-based task numbers,
+ * such as the selection written as "1-3,7".
+ */
+public class TaskSelection {
+    private final boolean isCompletedSelection;
+    private final List<int[]> ranges = new ArrayList<>();
+
+    /**
+     * Constructs an empty TaskSelection that task number ranges can be added to.
+     */
+    public TaskSelection() {
+        this(false);
+    }
+
+    private TaskSelection(boolean isCompletedSelection) {
+        this.isCompletedSelection = isCompletedSelection;
+    }
+
+    /**
+     * Returns a selection of every task that is marked as done.
+     *
+     * @return The selection of completed tasks.
+     */
+    public static TaskSelection completedTasks() {
+        return new TaskSelection(true);
+    }
+
+    /**
+     * Adds the tasks from start to end, inclusive, to the selection.
+     *
+     * @param start The 1-based number of the first task in the range.
+     * @param end The 1-based number of the last task in the range.
+     */
+    public void addRange(int start, int end) {
+        assert !isCompletedSelection : "ranges cannot be added to the selection of completed tasks";
+        ranges.add(new int[] {Math.min(start, end), Math.max(start, end)});
+    }
+
+    boolean isCompletedSelection() {
+        return isCompletedSelection;
+    }
+
+    List<int[]> getRanges() {
+        return ranges;
+    }
+}
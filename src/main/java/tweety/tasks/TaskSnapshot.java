@@ -0,0 +1,97 @@
+package tweety.tasks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * An unchangeable view of a TaskList as it was at one moment, such as for writing it out on a background thread
+ * while commands keep changing the list. The tasks of a snapshot are frozen copies of the tasks in the list:
+ * they can be read like any other task, but changing one throws an UnsupportedOperationException.
+ * Tasks that have not changed since the snapshot was taken are only copied as they are read, which briefly
+ * takes the list's read lock once per run of 32 slots.
+ */
+public final class TaskSnapshot implements Iterable<Task> {
+    private final TaskVector.Node root;
+    private final int shift;
+    private final Lock readLock;
+    private final int taskCount;
+    private final int completedCount;
+    private final List<TaskMutation> mutations;
+
+    TaskSnapshot(TaskVector.Node root, int shift, Lock readLock, int taskCount, int completedCount,
+                 List<TaskMutation> mutations) {
+        this.root = root;
+        this.shift = shift;
+        this.readLock = readLock;
+        this.taskCount = taskCount;
+        this.completedCount = completedCount;
+        this.mutations = mutations == null ? List.of() : mutations;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public int getCompletedTaskCount() {
+        return completedCount;
+    }
+
+    public int getPendingTaskCount() {
+        return taskCount - completedCount;
+    }
+
+    /**
+     * Returns the changes that led to this snapshot since the previous one taken with
+     * {@link TaskList#drainMutationsToSnapshot()}, in the order they happened.
+     *
+     * @return The mutations, empty if the snapshot was taken with {@link TaskList#snapshot()}.
+     */
+    public List<TaskMutation> getMutations() {
+        return mutations;
+    }
+
+    /**
+     * Returns the tasks of the snapshot in list order.
+     *
+     * @return An iterator over the frozen tasks.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private int remaining = taskCount;
+            private final Object[] leafTasks = new Object[TaskVector.WIDTH];
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Task next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                while (true) {
+                    if ((index & TaskVector.MASK) == 0) {
+                        Object[] leaf = TaskVector.findLeaf(root, shift, index);
+                        if (leaf == null) {
+                            // No task was ever in this run of slots
+                            index += TaskVector.WIDTH;
+                            continue;
+                        }
+                        TaskVector.readLeaf(leaf, readLock, leafTasks);
+                    }
+                    Task task = (Task) leafTasks[index & TaskVector.MASK];
+                    index++;
+                    if (task != null) {
+                        remaining--;
+                        return task;
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package tweety.tasks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A persistent vector of the tasks of a TaskList indexed by id, from which the list hands out its snapshots.
+ * The vector is a trie of nodes with 32 children each, so finding or changing a slot visits O(log n) nodes.
+ *
+ * <p>Every node belongs to the vector that created it. A node that still belongs to this vector is changed in
+ * place, while one that a snapshot has taken is copied first, along with the nodes above it, leaving the
+ * snapshot's nodes untouched. Taking a snapshot only hands the current root over and starts a new owner,
+ * so it costs O(1), and the first change to a slot afterwards costs O(log n).
+ *
+ * <p>The bottom level holds the tasks of the list themselves rather than copies, so the vector costs only its
+ * nodes, about 4 bytes per task. A task must be put in its slot again before it is changed. If a snapshot
+ * still shares the bottom node of that slot, the node is copied for the vector, and the up to 32 tasks in
+ * the snapshot's node are replaced with frozen copies, since the vector will never touch that node again.
+ * The copies live only as long as the snapshots that hold them. The tasks that a snapshot still shares with
+ * the list are copied as the snapshot is read, under the list's read lock, so that no change to them is seen
+ * half done; those copies can be dropped as soon as the reader is done with them.
+ */
+class TaskVector {
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    static final int MASK = WIDTH - 1;
+
+    // Slots of a snapshot's bottom node are frozen while the snapshot may be read on another thread
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * A node of the trie, holding its child nodes, or the tasks themselves in the bottom level.
+     */
+    static class Node {
+        final Object owner;
+        final Object[] children;
+
+        Node(Object owner, Object[] children) {
+            this.owner = owner;
+            this.children = children;
+        }
+    }
+
+    private final Lock readLock;
+    // Replaced by every snapshot, possibly from several reading threads at once
+    private volatile Object owner = new Object();
+    private Node root = new Node(owner, new Object[WIDTH]);
+    private int shift;
+
+    /**
+     * Constructs an empty vector.
+     *
+     * @param readLock The read lock of the list whose tasks the vector holds, held while the list does not change.
+     */
+    TaskVector(Lock readLock) {
+        this.readLock = readLock;
+    }
+
+    /**
+     * Puts the task in the slot, or empties the slot if the task is null.
+     * Must be called before changing a task already in the vector, with the task still as it was.
+     *
+     * @param index The slot to change.
+     * @param task The task to put in the slot, or null.
+     */
+    void set(int index, Task task) {
+        Object currentOwner = owner;
+        while (index >>> (shift + BITS) != 0) {
+            // Add a level above the root until the root covers the slot
+            Object[] children = new Object[WIDTH];
+            children[0] = root;
+            root = new Node(currentOwner, children);
+            shift += BITS;
+        }
+
+        root = editable(root, currentOwner, shift == 0);
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            int childIndex = (index >>> level) & MASK;
+            Node child = (Node) node.children[childIndex];
+            child = child == null
+                    ? new Node(currentOwner, new Object[WIDTH])
+                    : editable(child, currentOwner, level == BITS);
+            node.children[childIndex] = child;
+            node = child;
+        }
+        node.children[index & MASK] = task;
+    }
+
+    private static Node editable(Node node, Object currentOwner, boolean isBottom) {
+        if (node.owner == currentOwner) {
+            return node;
+        }
+        Node copy = new Node(currentOwner, node.children.clone());
+        if (isBottom) {
+            freezeTasks(node.children);
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces every task in a bottom node that snapshots may hold with a frozen copy.
+     */
+    private static void freezeTasks(Object[] tasks) {
+        for (int i = 0; i < WIDTH; i++) {
+            Task task = (Task) tasks[i];
+            if (task != null && !task.isFrozen()) {
+                SLOT.setRelease(tasks, i, task.freeze());
+            }
+        }
+    }
+
+    /**
+     * Freezes the tasks in every node that snapshots may still hold, before the vector is dropped.
+     * The vector must not be used afterwards.
+     */
+    void freezeSharedTasks() {
+        freezeSharedTasks(root, shift, owner);
+    }
+
+    private static void freezeSharedTasks(Node node, int level, Object currentOwner) {
+        if (level == 0) {
+            if (node.owner != currentOwner) {
+                freezeTasks(node.children);
+            }
+            return;
+        }
+        for (Object child : node.children) {
+            if (child != null) {
+                freezeSharedTasks((Node) child, level - BITS, currentOwner);
+            }
+        }
+    }
+
+    /**
+     * Hands the current contents over to a snapshot, after which the vector copies any node before changing it.
+     *
+     * @param taskCount The number of tasks in the vector.
+     * @param completedCount The number of completed tasks in the vector.
+     * @param mutations The mutations that led to the current contents, or null.
+     * @return The snapshot.
+     */
+    TaskSnapshot snapshot(int taskCount, int completedCount, List<TaskMutation> mutations) {
+        owner = new Object();
+        return new TaskSnapshot(root, shift, readLock, taskCount, completedCount, mutations);
+    }
+
+    /**
+     * Returns the bottom-level slots holding the given slot.
+     *
+     * @param root The root of the trie.
+     * @param shift The number of bits of a slot index above the bottom level.
+     * @param index The slot.
+     * @return The slots, or null if no task was ever put in any of them.
+     */
+    static Object[] findLeaf(Node root, int shift, int index) {
+        if (index >>> (shift + BITS) != 0) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; level > 0 && node != null; level -= BITS) {
+            node = (Node) node.children[(index >>> level) & MASK];
+        }
+        return node == null ? null : node.children;
+    }
+
+    /**
+     * Copies the tasks of a snapshot's bottom-level slots, freezing any that the list may still change.
+     *
+     * @param leaf The slots, as returned by {@link #findLeaf(Node, int, int)}.
+     * @param readLock The read lock of the list that the snapshot was taken from.
+     * @param tasks The array to copy the frozen tasks into.
+     */
+    static void readLeaf(Object[] leaf, Lock readLock, Object[] tasks) {
+        boolean isShared = false;
+        for (int i = 0; i < WIDTH; i++) {
+            Task task = (Task) SLOT.getAcquire(leaf, i);
+            tasks[i] = task;
+            isShared |= task != null && !task.isFrozen();
+        }
+        if (!isShared) {
+            return;
+        }
+
+        // The list cannot change the tasks while the read lock is held, and freezes them before it does
+        readLock.lock();
+        try {
+            for (int i = 0; i < WIDTH; i++) {
+                Task task = (Task) SLOT.getAcquire(leaf, i);
+                tasks[i] = task == null || task.isFrozen() ? task : task.freeze();
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
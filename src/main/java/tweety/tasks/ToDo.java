@@ -17,6 +17,11 @@ public class ToDo extends Task {
         super(description);
     }
 
+    @Override
+    protected Task copy() {
+        return new ToDo(description);
+    }
+
     @Override
     public void editField(String field, String newValue) throws TweetyException {
         switch (field) {
@@ -29,7 +34,12 @@ public class ToDo extends Task {
     }
 
     @Override
-    public String toString() {
+    protected String formatDisplayString() {
         return "[T]" + getStatusIcon() + " " + getDescription();
     }
+
+    @Override
+    protected String formatStorageString() {
+        return "T | " + getStatusIcon() + " | " + getDescription();
+    }
 }
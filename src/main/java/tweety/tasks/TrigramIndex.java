@@ -0,0 +1,101 @@
+package tweety.tasks;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from every run of three consecutive characters (trigram) in the lowercased task descriptions
+ * to the ids of the tasks containing it.
+ * A description can only contain a keyword if it contains every trigram of the keyword, so intersecting
+ * the posting lists of those trigrams narrows a substring search down to a few candidates.
+ * The candidates still have to be checked with {@link String#contains(CharSequence)}.
+ */
+class TrigramIndex {
+    static final int TRIGRAM_LENGTH = 3;
+
+    private final HashMap<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * Indexes the trigrams of the task's description under the task's id.
+     *
+     * @param task The task to index.
+     */
+    void add(Task task) {
+        for (long trigram : getTrigrams(task.getDescription().toLowerCase())) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(task.id);
+        }
+    }
+
+    /**
+     * Removes the task's id from the trigrams of its current description.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        for (long trigram : getTrigrams(task.getDescription().toLowerCase())) {
+            PostingList ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(task.id);
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the ids of every task whose description contains all the trigrams of the lowercased keyword.
+     * The keyword must be at least {@value #TRIGRAM_LENGTH} characters long.
+     *
+     * @param keyword The lowercased keyword to search for.
+     * @param result The set to add the candidate task ids to.
+     */
+    void collectCandidates(String keyword, BitSet result) {
+        assert keyword.length() >= TRIGRAM_LENGTH : "keyword should be at least a trigram long";
+
+        List<PostingList> lists = new ArrayList<>();
+        for (long trigram : getTrigrams(keyword)) {
+            PostingList ids = postings.get(trigram);
+            if (ids == null) {
+                return;
+            }
+            lists.add(ids);
+        }
+
+        // Walking the shortest list first keeps the number of lookups down
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        lists.get(0).addCommonTo(lists.subList(1, lists.size()), result);
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory used by this index, in bytes.
+     *
+     * @return The estimated memory use.
+     */
+    long estimateMemoryBytes() {
+        // Hash table slot, map entry and boxed key for every trigram
+        long bytes = 16 + (long) Integer.BYTES * Integer.highestOneBit(Math.max(1, postings.size() * 2));
+        for (Map.Entry<Long, PostingList> entry : postings.entrySet()) {
+            bytes += 32 + 16 + entry.getValue().estimateMemoryBytes();
+        }
+        return bytes;
+    }
+
+    int getTrigramCount() {
+        return postings.size();
+    }
+
+    private static Set<Long> getTrigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,239 @@
+package tweety.tasks;
+
+import tweety.exceptions.TweetyException;
+
+import java.util.List;
+
+/**
+ * Represents the change made by one command to a TaskList, kept so that the command can be undone and redone.
+ * Only the delta is kept: the tasks the command touched and, for an edit, the old and new value of the field.
+ * Undoing or redoing goes through the same TaskList methods as the commands themselves, so the change is
+ * recorded as mutations and saved like any other, and costs as much as the command did rather than as much
+ * as the whole list.
+ */
+public class UndoableEdit {
+
+    /**
+     * Enumeration of all the kinds of changes that can be undone.
+     */
+    public enum Type {
+        ADD, DELETE, MARK, UNMARK, EDIT
+    }
+
+    /** Rough size of a task that only the history still refers to, on top of its description. */
+    private static final long TASK_BYTES = 96;
+
+    private final Type type;
+    private final List<Task> tasks;
+    private final int selectedCount;
+    private final Task firstSelectedTask;
+    private final String field;
+    private final String oldValue;
+    private final String newValue;
+    private final long memoryBytes;
+
+    private UndoableEdit(Type type, List<Task> tasks, List<Task> selectedTasks, String field,
+            String oldValue, String newValue) {
+        this.type = type;
+        this.tasks = tasks;
+        this.selectedCount = selectedTasks.size();
+        this.firstSelectedTask = selectedTasks.isEmpty() ? null : selectedTasks.get(0);
+        this.field = field;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.memoryBytes = estimateMemoryBytes(type, tasks, oldValue, newValue);
+    }
+
+    /**
+     * Creates the edit of a command that added tasks to the end of the list.
+     *
+     * @param addedTasks The added tasks, in list order.
+     * @return The edit.
+     */
+    public static UndoableEdit add(List<Task> addedTasks) {
+        return new UndoableEdit(Type.ADD, addedTasks, addedTasks, null, null, null);
+    }
+
+    /**
+     * Creates the edit of a command that deleted tasks.
+     *
+     * @param deletedTasks The deleted tasks, in list order.
+     * @return The edit.
+     */
+    public static UndoableEdit delete(List<Task> deletedTasks) {
+        return new UndoableEdit(Type.DELETE, deletedTasks, deletedTasks, null, null, null);
+    }
+
+    /**
+     * Creates the edit of a command that marked tasks as done.
+     *
+     * @param selectedTasks The tasks the command marked.
+     * @param changedTasks The tasks among them that were not done before, in list order.
+     * @return The edit.
+     */
+    public static UndoableEdit mark(List<Task> selectedTasks, List<Task> changedTasks) {
+        return new UndoableEdit(Type.MARK, changedTasks, selectedTasks, null, null, null);
+    }
+
+    /**
+     * Creates the edit of a command that marked tasks as not done.
+     *
+     * @param selectedTasks The tasks the command unmarked.
+     * @param changedTasks The tasks among them that were done before, in list order.
+     * @return The edit.
+     */
+    public static UndoableEdit unmark(List<Task> selectedTasks, List<Task> changedTasks) {
+        return new UndoableEdit(Type.UNMARK, changedTasks, selectedTasks, null, null, null);
+    }
+
+    /**
+     * Creates the edit of a command that changed a field of a task.
+     *
+     * @param task The edited task.
+     * @param field The edited field.
+     * @param oldValue The value of the field before the edit.
+     * @param newValue The value of the field after the edit.
+     * @return The edit.
+     */
+    public static UndoableEdit edit(Task task, String field, String oldValue, String newValue) {
+        return new UndoableEdit(Type.EDIT, List.of(task), List.of(task), field, oldValue, newValue);
+    }
+
+    /**
+     * Reverses the change in the task list, which must be as the change left it.
+     *
+     * @param taskList The task list the change was made to.
+     * @throws TweetyException If a task the change touched is no longer where the change left it.
+     */
+    void undo(TaskList taskList) throws TweetyException {
+        switch (type) {
+            case ADD:
+                deleteAll(taskList);
+                break;
+            case DELETE:
+                restoreAll(taskList);
+                break;
+            case MARK:
+                for (Task task : tasks) {
+                    taskList.unmarkTaskById(task.id);
+                }
+                break;
+            case UNMARK:
+                for (Task task : tasks) {
+                    taskList.markTaskById(task.id);
+                }
+                break;
+            case EDIT:
+                taskList.editTaskById(tasks.get(0).id, field, oldValue);
+                break;
+            default:
+                throw new AssertionError("Unknown edit type: " + type);
+        }
+    }
+
+    /**
+     * Makes the change again in the task list, which must be as undoing the change left it.
+     *
+     * @param taskList The task list the change was made to.
+     * @throws TweetyException If a task the change touched is no longer where undoing the change left it.
+     */
+    void redo(TaskList taskList) throws TweetyException {
+        switch (type) {
+            case ADD:
+                restoreAll(taskList);
+                break;
+            case DELETE:
+                deleteAll(taskList);
+                break;
+            case MARK:
+                for (Task task : tasks) {
+                    taskList.markTaskById(task.id);
+                }
+                break;
+            case UNMARK:
+                for (Task task : tasks) {
+                    taskList.unmarkTaskById(task.id);
+                }
+                break;
+            case EDIT:
+                taskList.editTaskById(tasks.get(0).id, field, newValue);
+                break;
+            default:
+                throw new AssertionError("Unknown edit type: " + type);
+        }
+    }
+
+    private void deleteAll(TaskList taskList) throws TweetyException {
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            taskList.deleteTaskById(tasks.get(i).id);
+        }
+    }
+
+    private void restoreAll(TaskList taskList) {
+        // In list order, so that each task goes back between neighbours that are already in place
+        for (Task task : tasks) {
+            taskList.restoreTask(task);
+        }
+    }
+
+    /**
+     * Returns the tasks the change touched, which it finds again by id when it is undone or redone.
+     *
+     * @return The tasks, in list order.
+     */
+    List<Task> getTasks() {
+        return tasks;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Describes the change for a message, such as "deleting "read book"" or "marking 3 tasks as done".
+     *
+     * @return The description of the change.
+     */
+    public String getDescription() {
+        String subject = selectedCount == 1
+                ? "\"" + firstSelectedTask.getDescription() + "\""
+                : selectedCount + " tasks";
+        switch (type) {
+            case ADD:
+                return "adding " + subject;
+            case DELETE:
+                return "deleting " + subject;
+            case MARK:
+                return "marking " + subject + " as done";
+            case UNMARK:
+                return "unmarking " + subject;
+            case EDIT:
+                return "editing the " + field + " of " + subject;
+            default:
+                throw new AssertionError("Unknown edit type: " + type);
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the heap memory kept alive by this edit, in bytes.
+     * Added and deleted tasks are counted in full, since once undone or done they are only kept by the history.
+     *
+     * @return The estimated memory use.
+     */
+    long estimateMemoryBytes() {
+        return memoryBytes;
+    }
+
+    private static long estimateMemoryBytes(Type type, List<Task> tasks, String oldValue, String newValue) {
+        // The edit itself, and a reference to every task it touched
+        long bytes = 64 + 16 + (long) Integer.BYTES * 2 * tasks.size();
+        if (type == Type.ADD || type == Type.DELETE) {
+            for (Task task : tasks) {
+                bytes += TASK_BYTES + 2L * task.getDescription().length();
+            }
+        } else if (type == Type.EDIT) {
+            bytes += 2L * (oldValue.length() + newValue.length());
+        }
+        return bytes;
+    }
+}
@@ -1,10 +1,25 @@
 package tweety.ui;
 
+import tweety.tasks.EventConflict;
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
 
+import java.time.LocalDate;
+
+import java.util.List;
+
+/**
+ * Renders responses into a text buffer instead of printing them, for display in the GUI.
+ * An instance can be reused for any number of commands: each response is taken out with
+ * {@link #getResponse()}, which leaves the buffer empty, with its capacity kept, for the next one.
+ */
 public class GuiUi extends Ui {
+    /** Lists longer than this are shown in the task table instead of the chat, to keep the dialog short. */
+    private static final int INLINE_TASK_LIMIT = 50;
+
     private StringBuilder response;
+    private boolean isTaskTableRequested;
 
     /**
      * Constructs a new GuiUi instance.
@@ -21,11 +36,28 @@ public class GuiUi extends Ui {
      * @return The formatted response string.
      */
     public String getResponse() {
-        String result = response.toString().trim();
+        // Trim within the buffer, so the response is copied out only once
+        int start = 0;
+        int end = response.length();
+        while (start < end && Character.isWhitespace(response.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(response.charAt(end - 1))) {
+            end--;
+        }
+        String result = response.substring(start, end);
         response.setLength(0); // Clear the buffer for next use
         return result;
     }
 
+    /**
+     * Discards anything rendered since the last response, such as the output of a command that failed halfway.
+     */
+    public void reset() {
+        response.setLength(0);
+        isTaskTableRequested = false;
+    }
+
     @Override
     public void printWelcomeMessage() {
         response.append("Hi! I tawt I taw a new user!\n");
@@ -37,32 +69,64 @@ public class GuiUi extends Ui {
         response.append("Aww, you gotta go? Bye bye! Hope to see ya soon!\n");
     }
 
+    /**
+     * Returns whether the last command asked for the task table to be shown, and clears the request.
+     *
+     * @return True if the task table should be shown, false otherwise.
+     */
+    public boolean consumeTaskTableRequest() {
+        boolean isRequested = isTaskTableRequested;
+        isTaskTableRequested = false;
+        return isRequested;
+    }
+
     @Override
     public void printTaskList(TaskList tasks) {
+        int taskCount = tasks.getTaskCount();
+        if (taskCount > INLINE_TASK_LIMIT) {
+            isTaskTableRequested = true;
+            response.append("Ya have ").append(taskCount).append(" tasks, hon! I’ve put dem all in da task table faw ya.\n");
+            response.append("Use 'list page 1' or 'list 1-50' to see some of dem right here.\n");
+            return;
+        }
+
         response.append("Here awe da tasks in your list, hon:\n");
-        for (int i = 0; i < tasks.getTaskCount(); i++) {
-            Task currTask = tasks.getTask(i);
+        List<Task> allTasks = tasks.getAllTasks();
+        for (int i = 0; i < allTasks.size(); i++) {
+            Task currTask = allTasks.get(i);
             response.append((i + 1)).append(". ").append(currTask).append("\n");
         }
     }
 
+    @Override
+    public void printTaskRange(List<Task> tasks, int firstTaskNumber, int taskCount) {
+        int lastTaskNumber = firstTaskNumber + tasks.size() - 1;
+        response.append("Here awe tasks ").append(firstTaskNumber).append(" to ").append(lastTaskNumber)
+                .append(" of da ").append(taskCount).append(" in your list, hon:\n");
+        for (int i = 0; i < tasks.size(); i++) {
+            response.append(firstTaskNumber + i).append(". ").append(tasks.get(i)).append("\n");
+        }
+    }
+
     @Override
     public void printNoTaskLeft() {
         response.append("Nice! You don't have any tasks due at da moment! Yay!\n");
     }
 
     @Override
-    public void printAddedTask(Task addedTask, int taskCount) {
+    public void printAddedTask(Task addedTask, int taskCount, int pendingCount) {
         response.append("Got it! I’ve added dis task faw ya:\n");
         response.append("  ").append(addedTask).append("\n");
-        response.append("Now ya have ").append(taskCount).append(" tasks in your list, aww!\n");
+        response.append("Now ya have ").append(taskCount).append(" tasks in your list, ").append(pendingCount)
+                .append(" not done yet, aww!\n");
     }
 
     @Override
-    public void printDeletedTask(Task deletedTask, int taskCount) {
+    public void printDeletedTask(Task deletedTask, int taskCount, int pendingCount) {
         response.append("Noted! I’ve removed dis task faw ya:\n");
         response.append("  ").append(deletedTask).append("\n");
-        response.append("Now ya have ").append(taskCount).append(" tasks in the list, aww!\n");
+        response.append("Now ya have ").append(taskCount).append(" tasks in the list, ").append(pendingCount)
+                .append(" not done yet, aww!\n");
     }
 
     @Override
@@ -78,20 +142,168 @@ public class GuiUi extends Ui {
     }
 
     @Override
-    public void printFindTask(TaskList tasks) {
+    public void printDeletedTasks(List<Task> deletedTasks, int taskCount, int pendingCount) {
+        response.append("Noted! I’ve removed dese ").append(deletedTasks.size()).append(" tasks faw ya:\n");
+        for (Task deletedTask : deletedTasks) {
+            response.append("  ").append(deletedTask).append("\n");
+        }
+        response.append("Now ya have ").append(taskCount).append(" tasks in the list, ").append(pendingCount)
+                .append(" not done yet, aww!\n");
+    }
+
+    @Override
+    public void printMarkedTasks(List<Task> markedTasks) {
+        response.append("Nice! I’ve marked dese ").append(markedTasks.size()).append(" tasks as done, yay!\n");
+        for (Task markedTask : markedTasks) {
+            response.append("  ").append(markedTask).append("\n");
+        }
+    }
+
+    @Override
+    public void printUnmarkedTasks(List<Task> unmarkedTasks) {
+        response.append("OK! I’ve marked dese ").append(unmarkedTasks.size()).append(" tasks as not done yet, hon:\n");
+        for (Task unmarkedTask : unmarkedTasks) {
+            response.append("  ").append(unmarkedTask).append("\n");
+        }
+    }
+
+    @Override
+    public void printFindTask(List<Task> tasks) {
         response.append("Here awe da matching tasks in your list, hon:\n");
-        for (int i = 0; i < tasks.getTaskCount(); i++) {
-            Task currTask = tasks.getTask(i);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task currTask = tasks.get(i);
             response.append((i + 1)).append(". ").append(currTask).append("\n");
         }
     }
 
+    @Override
+    public void printTasksWithStatus(List<Task> tasks, int[] taskNumbers, boolean isCompleted) {
+        if (tasks.isEmpty()) {
+            response.append(isCompleted
+                    ? "Ya haven’t finished any tasks yet, hon. Ya can do it!\n"
+                    : "Yay! Ya have nuthin’ left to do, hon!\n");
+            return;
+        }
+        response.append(isCompleted
+                ? "Here awe da tasks ya’ve finished, yay:\n"
+                : "Here awe da tasks ya haven’t done yet, hon:\n");
+        appendNumberedTasks(tasks, taskNumbers);
+    }
+
+    @Override
+    public void printTaskCounts(int completedCount, int pendingCount) {
+        response.append("Ya have ").append(completedCount + pendingCount).append(" tasks in your list, hon: ")
+                .append(completedCount).append(" done and ").append(pendingCount).append(" not done yet!\n");
+    }
+
+    @Override
+    public void printSwitchedList(String listName, int taskCount) {
+        response.append("Okay, hon! Ya’re now on da list \"").append(listName).append("\", wif ")
+                .append(taskCount).append(" tasks in it!\n");
+    }
+
+    @Override
+    public void printLists(List<String> listNames, String currentListName) {
+        response.append("Here awe all your lists, hon:\n");
+        for (int i = 0; i < listNames.size(); i++) {
+            String listName = listNames.get(i);
+            response.append(i + 1).append(". ").append(listName)
+                    .append(listName.equals(currentListName) ? " (dis one!)" : "").append("\n");
+        }
+    }
+
+    @Override
+    public void printDueTasks(List<Task> tasks, int[] taskNumbers, LocalDate lastDay) {
+        if (tasks.isEmpty()) {
+            response.append("Yay! Nothing is due by ").append(lastDay.format(DISPLAY_DATE_FORMAT))
+                    .append(", hon!\n");
+            return;
+        }
+        response.append("Here awe da tasks due by ").append(lastDay.format(DISPLAY_DATE_FORMAT))
+                .append(", hon:\n");
+        appendNumberedTasks(tasks, taskNumbers);
+    }
+
+    @Override
+    public void printOverdueTasks(List<Task> tasks, int[] taskNumbers) {
+        if (tasks.isEmpty()) {
+            response.append("Yay! Nuthin’ is ovewdue, hon!\n");
+            return;
+        }
+        response.append("Uh oh, dese tasks awe ovewdue, hon:\n");
+        appendNumberedTasks(tasks, taskNumbers);
+    }
+
+    @Override
+    public void printEvents(List<Task> events, int[] taskNumbers, LocalDate firstDay, LocalDate lastDay) {
+        if (events.isEmpty()) {
+            response.append("Ya have no events ").append(formatPeriod(firstDay, lastDay)).append(", hon!\n");
+            return;
+        }
+        response.append("Here awe da events ").append(formatPeriod(firstDay, lastDay)).append(", hon:\n");
+        appendNumberedTasks(events, taskNumbers);
+    }
+
+    @Override
+    public void printConflicts(List<EventConflict> conflicts, int[] earlierTaskNumbers, int[] laterTaskNumbers) {
+        if (conflicts.isEmpty()) {
+            response.append("Yay! None of your events cwash, hon!\n");
+            return;
+        }
+        response.append("Uh oh, dese events cwash, hon:\n");
+        for (int i = 0; i < conflicts.size(); i++) {
+            EventConflict conflict = conflicts.get(i);
+            response.append(earlierTaskNumbers[i]).append(". ").append(conflict.getEarlierEvent()).append("\n");
+            response.append("   and ").append(laterTaskNumbers[i]).append(". ").append(conflict.getLaterEvent())
+                    .append("\n");
+        }
+    }
+
+    private void appendNumberedTasks(List<Task> tasks, int[] taskNumbers) {
+        for (int i = 0; i < tasks.size(); i++) {
+            response.append(taskNumbers[i]).append(". ").append(tasks.get(i)).append("\n");
+        }
+    }
+
     @Override
     public void printEditedTask(Task editedTask) {
         response.append("Nice! I’ve edited dis task for ya:\n");
         response.append("  ").append(editedTask).append("\n");
     }
 
+    @Override
+    public void printUndoneEdit(UndoableEdit edit) {
+        response.append("Okay! I’ve undone ").append(edit.getDescription()).append(" faw ya, hon!\n");
+    }
+
+    @Override
+    public void printRedoneEdit(UndoableEdit edit) {
+        response.append("Okay! I’ve redone ").append(edit.getDescription()).append(" faw ya, hon!\n");
+    }
+
+    @Override
+    public void printStats(int taskCount, List<String> indexStats) {
+        response.append("Ya have ").append(taskCount).append(" tasks in your list, hon!\n");
+        for (String line : indexStats) {
+            response.append(line).append("\n");
+        }
+    }
+
+    @Override
+    public void printImportedTasks(int importedCount, int skippedCount, int taskCount) {
+        response.append("Yay! I’ve imported ").append(importedCount).append(" tasks faw ya!\n");
+        if (skippedCount > 0) {
+            response.append("I left out ").append(skippedCount).append(" wecords dat awen’t pwopa tasks, hon.\n");
+        }
+        response.append("Now ya have ").append(taskCount).append(" tasks in your list, aww!\n");
+    }
+
+    @Override
+    public void printExportedTasks(int exportedCount, String fileName) {
+        response.append("Done, hon! I’ve exported ").append(exportedCount).append(" tasks to ")
+                .append(fileName).append(" faw ya!\n");
+    }
+
     @Override
     public void printErrorMessage(Exception e) {
         response.append(e.getMessage()).append("\n");
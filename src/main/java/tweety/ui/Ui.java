@@ -1,8 +1,14 @@
 package tweety.ui;
 
+import tweety.tasks.EventConflict;
 import tweety.tasks.Task;
 import tweety.tasks.TaskList;
+import tweety.tasks.UndoableEdit;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -13,14 +19,16 @@ public class Ui {
     private static final String FORMATTING_GAP_DEFAULT = "     ";
     private static final String FORMATTING_LINE = FORMATTING_GAP_DEFAULT
             + "____________________________________________________________";
+    /** Dates in messages are written the way deadlines show them, such as "Sep 30 2025". */
+    protected static final DateTimeFormatter DISPLAY_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
     private Scanner scanner;
 
     /**
      * Constructs a new Ui instance.
-     * Initialises the scanner for reading user input from standard input.
+     * The scanner for reading user input from standard input is only created when input is first read,
+     * so instances that only display output never touch standard input.
      */
     public Ui() {
-        this.scanner = new Scanner(System.in);
     }
 
     /**
@@ -30,6 +38,9 @@ public class Ui {
      * @return The user's input as a string.
      */
     public String readCommand() {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
         return scanner.nextLine();
     }
 
@@ -63,13 +74,32 @@ public class Ui {
     public void printTaskList(TaskList tasks) {
         System.out.println(FORMATTING_LINE);
         System.out.println(FORMATTING_GAP_DEFAULT + "Here are the tasks in your list:");
-        for (int i = 0; i < tasks.getTaskCount(); i++) {
-            Task currTask = tasks.getTask(i);
+        List<Task> allTasks = tasks.getAllTasks();
+        for (int i = 0; i < allTasks.size(); i++) {
+            Task currTask = allTasks.get(i);
             System.out.println(FORMATTING_GAP_DEFAULT + (i + 1) + ". " + currTask);
         }
         System.out.println(FORMATTING_LINE);
     }
 
+    /**
+     * Displays part of the task list with numbered formatting.
+     *
+     * @param tasks The tasks to display, in list order.
+     * @param firstTaskNumber The 1-based task number of the first task to display.
+     * @param taskCount The total number of tasks in the list.
+     */
+    public void printTaskRange(List<Task> tasks, int firstTaskNumber, int taskCount) {
+        int lastTaskNumber = firstTaskNumber + tasks.size() - 1;
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Here are tasks " + firstTaskNumber + " to " + lastTaskNumber
+                + " of the " + taskCount + " in your list:");
+        for (int i = 0; i < tasks.size(); i++) {
+            System.out.println(FORMATTING_GAP_DEFAULT + (firstTaskNumber + i) + ". " + tasks.get(i));
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
     /**
      * Displays message when taskList is empty
      */
@@ -85,13 +115,14 @@ public class Ui {
      *
      * @param addedTask The task that was added to the list.
      * @param taskCount The total number of tasks after adding.
+     * @param pendingCount The number of those tasks that are not done yet.
      */
-    public void printAddedTask(Task addedTask, int taskCount) {
+    public void printAddedTask(Task addedTask, int taskCount, int pendingCount) {
         System.out.println(FORMATTING_LINE);
         System.out.println(FORMATTING_GAP_DEFAULT + "Got it. I've added this task:");
         System.out.println("          " + addedTask);
         System.out.println(FORMATTING_GAP_DEFAULT + "Now you have " + taskCount
-                + " tasks in the list");
+                + " tasks in the list, " + pendingCount + " not done yet");
         System.out.println(FORMATTING_LINE);
     }
 
@@ -101,12 +132,14 @@ public class Ui {
      *
      * @param deletedTask The task that was removed from the list.
      * @param taskCount The total number of tasks after deletion.
+     * @param pendingCount The number of those tasks that are not done yet.
      */
-    public void printDeletedTask(Task deletedTask, int taskCount) {
+    public void printDeletedTask(Task deletedTask, int taskCount, int pendingCount) {
         System.out.println(FORMATTING_LINE);
         System.out.println(FORMATTING_GAP_DEFAULT + "Noted. I've removed this task:");
         System.out.println("          " + deletedTask);
-        System.out.println(FORMATTING_GAP_DEFAULT + "Now you have " + taskCount + " tasks in the list.");
+        System.out.println(FORMATTING_GAP_DEFAULT + "Now you have " + taskCount + " tasks in the list, "
+                + pendingCount + " not done yet.");
         System.out.println(FORMATTING_LINE);
     }
 
@@ -136,22 +169,229 @@ public class Ui {
         System.out.println(FORMATTING_LINE);
     }
 
+    /**
+     * Displays confirmation message for several tasks deleted at once.
+     *
+     * @param deletedTasks The tasks that were removed from the list.
+     * @param taskCount The total number of tasks after deletion.
+     * @param pendingCount The number of those tasks that are not done yet.
+     */
+    public void printDeletedTasks(List<Task> deletedTasks, int taskCount, int pendingCount) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Noted. I've removed these " + deletedTasks.size() + " tasks:");
+        for (Task deletedTask : deletedTasks) {
+            System.out.println("          " + deletedTask);
+        }
+        System.out.println(FORMATTING_GAP_DEFAULT + "Now you have " + taskCount + " tasks in the list, "
+                + pendingCount + " not done yet.");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays confirmation message for several tasks marked as done at once.
+     *
+     * @param markedTasks The tasks that were marked as completed.
+     */
+    public void printMarkedTasks(List<Task> markedTasks) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Nice! I've marked these " + markedTasks.size() + " tasks as done:");
+        for (Task markedTask : markedTasks) {
+            System.out.println("          " + markedTask);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays confirmation message for several tasks marked as not done at once.
+     *
+     * @param unmarkedTasks The tasks that were unmarked.
+     */
+    public void printUnmarkedTasks(List<Task> unmarkedTasks) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "OK, I've marked these " + unmarkedTasks.size()
+                + " tasks as not done yet:");
+        for (Task unmarkedTask : unmarkedTasks) {
+            System.out.println("          " + unmarkedTask);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
     /**
      * Displays matching tasks from a search or filter operation.
      * Shows each matching task with its task number and description within formatted borders.
      *
-     * @param tasks The TaskList containing matching tasks to display.
+     * @param tasks The matching tasks to display.
      */
-    public void printFindTask(TaskList tasks) {
+    public void printFindTask(List<Task> tasks) {
         System.out.println(FORMATTING_LINE);
         System.out.println(FORMATTING_GAP_DEFAULT + "Here are the matching tasks in your list:");
-        for (int i = 0; i < tasks.getTaskCount(); i++) {
-            Task currTask = tasks.getTask(i);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task currTask = tasks.get(i);
             System.out.println(FORMATTING_GAP_DEFAULT + (i + 1) + ". " + currTask);
         }
         System.out.println(FORMATTING_LINE);
     }
 
+    /**
+     * Displays the completed or the pending tasks, each with its position in the list.
+     *
+     * @param tasks The tasks to display, in list order.
+     * @param taskNumbers The 1-based task number of each task.
+     * @param isCompleted Whether the tasks are the completed ones rather than the pending ones.
+     */
+    public void printTasksWithStatus(List<Task> tasks, int[] taskNumbers, boolean isCompleted) {
+        System.out.println(FORMATTING_LINE);
+        if (tasks.isEmpty()) {
+            System.out.println(FORMATTING_GAP_DEFAULT + (isCompleted
+                    ? "You haven't completed any tasks yet."
+                    : "Nice! You have no tasks left to do."));
+        } else {
+            System.out.println(FORMATTING_GAP_DEFAULT + (isCompleted
+                    ? "Here are the tasks you have completed:"
+                    : "Here are the tasks you have not done yet:"));
+            printNumberedTasks(tasks, taskNumbers);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays how many tasks are completed and how many are not.
+     *
+     * @param completedCount The number of completed tasks.
+     * @param pendingCount The number of tasks not done yet.
+     */
+    public void printTaskCounts(int completedCount, int pendingCount) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "You have " + (completedCount + pendingCount)
+                + " tasks in the list: " + completedCount + " done and " + pendingCount + " not done yet.");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays a confirmation message after switching to another list.
+     *
+     * @param listName The name of the list switched to.
+     * @param taskCount The number of tasks in that list.
+     */
+    public void printSwitchedList(String listName, int taskCount) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Okay! You are now on the list \"" + listName + "\", which has "
+                + taskCount + " tasks.");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays the names of all lists, marking the current one.
+     *
+     * @param listNames The names of the lists, in alphabetical order.
+     * @param currentListName The name of the current list.
+     */
+    public void printLists(List<String> listNames, String currentListName) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Here are your lists:");
+        for (int i = 0; i < listNames.size(); i++) {
+            String listName = listNames.get(i);
+            System.out.println(FORMATTING_GAP_DEFAULT + (i + 1) + ". " + listName
+                    + (listName.equals(currentListName) ? " (current)" : ""));
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays the deadlines due by a date, each with its position in the list.
+     *
+     * @param tasks The deadlines to display, ordered by due date.
+     * @param taskNumbers The 1-based task number of each deadline.
+     * @param lastDay The last due date included.
+     */
+    public void printDueTasks(List<Task> tasks, int[] taskNumbers, LocalDate lastDay) {
+        System.out.println(FORMATTING_LINE);
+        if (tasks.isEmpty()) {
+            System.out.println(FORMATTING_GAP_DEFAULT + "Nice! Nothing is due by "
+                    + lastDay.format(DISPLAY_DATE_FORMAT) + ".");
+        } else {
+            System.out.println(FORMATTING_GAP_DEFAULT + "Here are the tasks due by "
+                    + lastDay.format(DISPLAY_DATE_FORMAT) + ":");
+            printNumberedTasks(tasks, taskNumbers);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays the overdue deadlines, each with its position in the list.
+     *
+     * @param tasks The deadlines to display, ordered by due date.
+     * @param taskNumbers The 1-based task number of each deadline.
+     */
+    public void printOverdueTasks(List<Task> tasks, int[] taskNumbers) {
+        System.out.println(FORMATTING_LINE);
+        if (tasks.isEmpty()) {
+            System.out.println(FORMATTING_GAP_DEFAULT + "Nice! None of your tasks are overdue.");
+        } else {
+            System.out.println(FORMATTING_GAP_DEFAULT + "These tasks are overdue:");
+            printNumberedTasks(tasks, taskNumbers);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays the events taking place on a day or between two days, each with its position in the list.
+     *
+     * @param events The events to display, ordered by start time.
+     * @param taskNumbers The 1-based task number of each event.
+     * @param firstDay The first day of the period.
+     * @param lastDay The last day of the period, which is the first day for a single day.
+     */
+    public void printEvents(List<Task> events, int[] taskNumbers, LocalDate firstDay, LocalDate lastDay) {
+        System.out.println(FORMATTING_LINE);
+        if (events.isEmpty()) {
+            System.out.println(FORMATTING_GAP_DEFAULT + "You have no events " + formatPeriod(firstDay, lastDay) + ".");
+        } else {
+            System.out.println(FORMATTING_GAP_DEFAULT + "Here are the events " + formatPeriod(firstDay, lastDay) + ":");
+            printNumberedTasks(events, taskNumbers);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays the pairs of events that overlap each other, each event with its position in the list.
+     *
+     * @param conflicts The overlapping pairs of events.
+     * @param earlierTaskNumbers The 1-based task number of the event starting first in each pair.
+     * @param laterTaskNumbers The 1-based task number of the other event in each pair.
+     */
+    public void printConflicts(List<EventConflict> conflicts, int[] earlierTaskNumbers, int[] laterTaskNumbers) {
+        System.out.println(FORMATTING_LINE);
+        if (conflicts.isEmpty()) {
+            System.out.println(FORMATTING_GAP_DEFAULT + "Nice! None of your events overlap.");
+        } else {
+            System.out.println(FORMATTING_GAP_DEFAULT + "These events overlap:");
+            for (int i = 0; i < conflicts.size(); i++) {
+                EventConflict conflict = conflicts.get(i);
+                System.out.println(FORMATTING_GAP_DEFAULT + earlierTaskNumbers[i] + ". " + conflict.getEarlierEvent());
+                System.out.println(FORMATTING_GAP_DEFAULT + "   and " + laterTaskNumbers[i] + ". "
+                        + conflict.getLaterEvent());
+            }
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Describes a period of days for a message, such as "on Oct 1 2025" or "between Oct 1 2025 and Oct 7 2025".
+     */
+    protected static String formatPeriod(LocalDate firstDay, LocalDate lastDay) {
+        if (firstDay.equals(lastDay)) {
+            return "on " + firstDay.format(DISPLAY_DATE_FORMAT);
+        }
+        return "between " + firstDay.format(DISPLAY_DATE_FORMAT) + " and " + lastDay.format(DISPLAY_DATE_FORMAT);
+    }
+
+    private void printNumberedTasks(List<Task> tasks, int[] taskNumbers) {
+        for (int i = 0; i < tasks.size(); i++) {
+            System.out.println(FORMATTING_GAP_DEFAULT + taskNumbers[i] + ". " + tasks.get(i));
+        }
+    }
+
     /**
      * Displays confirmation message for a edited task.
      * Shows the task that was edited with formatted borders.
@@ -165,6 +405,115 @@ public class Ui {
         System.out.println(FORMATTING_LINE);
     }
 
+    /**
+     * Displays a confirmation message after undoing a change.
+     *
+     * @param edit The undone change.
+     */
+    public void printUndoneEdit(UndoableEdit edit) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Okay! I've undone " + edit.getDescription() + ".");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays a confirmation message after redoing an undone change.
+     *
+     * @param edit The redone change.
+     */
+    public void printRedoneEdit(UndoableEdit edit) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Okay! I've redone " + edit.getDescription() + ".");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays statistics about the task list and the memory used by its search indexes.
+     *
+     * @param taskCount The number of tasks in the list.
+     * @param indexStats One line describing each search index.
+     */
+    public void printStats(int taskCount, List<String> indexStats) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "You have " + taskCount + " tasks in the list.");
+        for (String line : indexStats) {
+            System.out.println(FORMATTING_GAP_DEFAULT + line);
+        }
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays how many tasks were imported from a file.
+     *
+     * @param importedCount The number of tasks imported.
+     * @param skippedCount The number of records in the file that were not valid tasks.
+     * @param taskCount The total number of tasks after importing.
+     */
+    public void printImportedTasks(int importedCount, int skippedCount, int taskCount) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Got it. I've imported " + importedCount + " tasks.");
+        if (skippedCount > 0) {
+            System.out.println(FORMATTING_GAP_DEFAULT + "I skipped " + skippedCount
+                    + " records that are not valid tasks.");
+        }
+        System.out.println(FORMATTING_GAP_DEFAULT + "Now you have " + taskCount + " tasks in the list");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays how many tasks were exported to a file.
+     *
+     * @param exportedCount The number of tasks exported.
+     * @param fileName The file the tasks were exported to.
+     */
+    public void printExportedTasks(int exportedCount, String fileName) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Done. I've exported " + exportedCount + " tasks to " + fileName);
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays the error raised by one line of a batch command file.
+     * Kept to a single line, so that the errors of a long batch stay readable.
+     *
+     * @param lineNumber The 1-based number of the line in the command file.
+     * @param e The error raised by the command on that line.
+     */
+    public void printBatchError(int lineNumber, Exception e) {
+        String message = e.getMessage() == null ? e.toString() : e.getMessage();
+        System.out.println(FORMATTING_GAP_DEFAULT + "Line " + lineNumber + ": " + message.replace("\n", " "));
+    }
+
+    /**
+     * Displays the address the server mode listens on.
+     *
+     * @param port The port the server listens on.
+     */
+    public void printServerStarted(int port) {
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Tweety is listening on http://127.0.0.1:" + port
+                + "/ (POST bye to /commands to stop).");
+        System.out.println(FORMATTING_LINE);
+    }
+
+    /**
+     * Displays how many commands a batch run executed and how fast.
+     *
+     * @param commandCount The number of commands run, including the ones that failed.
+     * @param errorCount The number of commands that failed.
+     * @param taskCount The number of tasks in the list after the run.
+     * @param elapsedNanos The time taken by the run, including the final save, in nanoseconds.
+     */
+    public void printBatchReport(int commandCount, int errorCount, int taskCount, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long commandsPerSecond = seconds > 0 ? Math.round(commandCount / seconds) : commandCount;
+        System.out.println(FORMATTING_LINE);
+        System.out.println(FORMATTING_GAP_DEFAULT + "Ran " + commandCount + " commands (" + errorCount
+                + " failed) in " + String.format("%.3f", seconds) + " s, " + commandsPerSecond + " commands/s.");
+        System.out.println(FORMATTING_GAP_DEFAULT + "You have " + taskCount + " tasks in the list.");
+        System.out.println(FORMATTING_LINE);
+    }
+
     /**
      * Displays an error message in a formatted manner.
      * Shows the exception message within formatted borders for consistent error presentation.
@@ -183,6 +532,8 @@ public class Ui {
      * Should be called when the application terminates to properly clean up resources.
      */
     public void closeScanner() {
-        scanner.close();
+        if (scanner != null) {
+            scanner.close();
+        }
     }
 }
@@ -0,0 +1,239 @@
+package tweety.commands;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tweety.benchmarks.LegacyParser;
+import tweety.exceptions.InvalidInputFormatException;
+import tweety.exceptions.TweetyException;
+import tweety.storage.Storage;
+import tweety.tasks.TaskList;
+import tweety.tasks.ToDo;
+import tweety.ui.Ui;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParserTest {
+    private static final String DEADLINE_EXAMPLE = "deadline borrow book /by yyyy-mm-dd";
+    private static final String EVENT_EXAMPLE = "event project meeting /from Mon 2pm /to 4pm";
+    private static final String TASK_NUMBER_ERROR = "Invalid command format. Please specify a valid task number.";
+
+    @TempDir
+    Path directory;
+
+    private final Parser parser = new Parser();
+
+    @Test
+    public void parseCommand_invalidInput_errorMessageShown() {
+        assertError("Oopsie, hon! Invalid command. Please try again.", "blah");
+        for (String command : new String[] {"mark", "unmark", "delete"}) {
+            assertError(TASK_NUMBER_ERROR, command);
+            assertError(TASK_NUMBER_ERROR, command + " one");
+            assertError(TASK_NUMBER_ERROR, command + " 1,x");
+        }
+        assertError(invalidFormat("list", "list page 2, list 100-200, list done or list pending"), "list page x");
+        assertError(invalidFormat("list", "list page 2, list 100-200, list done or list pending"), "list 3-x");
+        assertError(invalidFormat("edit", "edit <task number> <field> <newValue>\n"
+                + "Valid fields are : description, deadline, from, to. "), "edit 1 description");
+        assertError(invalidFormat("edit", "Task number must be a valid integer"), "edit x description read");
+        assertError(emptyDescription("todo", "todo borrow book"), "todo");
+        assertError(emptyDescription("todo", "todo borrow book"), "todo   ");
+        assertError(emptyDescription("deadline", DEADLINE_EXAMPLE), "deadline");
+        assertError(invalidFormat("deadline", DEADLINE_EXAMPLE), "deadline return book");
+        assertError(invalidFormat("deadline", DEADLINE_EXAMPLE), "deadline /by 2025-09-30");
+        assertError(emptyDescription("event", EVENT_EXAMPLE), "event");
+        assertError(invalidFormat("event", EVENT_EXAMPLE), "event meeting /from Mon 2pm");
+        assertError(invalidFormat("event", EVENT_EXAMPLE), "event /from Mon 2pm /to 4pm");
+        assertError(invalidFormat("find", "find read"), "find");
+        assertError(invalidFormat("due", "due 2025-09-30, or due today"), "due someday");
+        assertError(invalidFormat("events", "events on 2025-10-01, or events between 2025-10-01 and 2025-10-07"),
+                "events between 2025-10-01 and later");
+        assertError(invalidFormat("import", "import tasks.csv, or import tasks.json"), "import");
+        assertError(invalidFormat("export", "export tasks.csv, or export tasks.json"), "export");
+        assertError(invalidFormat("switch", "switch work"), "switch");
+    }
+
+    @Test
+    public void parseCommand_eventWithEmptyEndTime_formatErrorShown() {
+        assertError(invalidFormat("event", EVENT_EXAMPLE), "event meeting /from Mon 2pm /to");
+        assertError(invalidFormat("event", EVENT_EXAMPLE), "event meeting /from Mon 2pm /to   ");
+    }
+
+    @Test
+    public void parseCommand_eventMarkersInAnyOrder_timesTakenByName() throws TweetyException {
+        assertEquals("[E][ ] meeting (from: Mon 2pm to: 4pm)", addTask("event meeting /to 4pm /from Mon 2pm"));
+        assertEquals("[E][ ] trip (from: today to: /tomorrow night)",
+                addTask("event trip /from today /to /tomorrow night"));
+        assertEquals("[E][ ] trip (from: /tomorrow 9am to: 5pm)", addTask("event trip /from /tomorrow 9am /to 5pm"));
+    }
+
+    @Test
+    public void parseCommand_leadingWhitespace_ignored() throws TweetyException {
+        assertEquals("[T][ ] read book", addTask("   todo read book"));
+        assertEquals("[D][ ] return book (by: Sep 30 2025)", addTask("\tdeadline return book /by 2025-09-30"));
+        assertEquals("[E][ ] meeting (from: Mon 2pm to: 4pm)", addTask(" event meeting /from Mon 2pm /to 4pm"));
+    }
+
+    @Test
+    public void parseCommand_listPageOrRangeFromZero_errorShown() {
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= 60; i++) {
+            tasks.addTask(new ToDo("task " + i));
+        }
+        TweetyException pageException = assertThrows(TweetyException.class, () -> execute("list page 0", tasks));
+        assertEquals("Aww, hon, please give me a page number from 1 to 2!", pageException.getMessage());
+        TweetyException rangeException = assertThrows(TweetyException.class, () -> execute("list 0-1", tasks));
+        assertEquals("Aww, hon, please give me a valid task number!", rangeException.getMessage());
+    }
+
+    @Test
+    public void parseCommand_generatedInputs_sameAsLegacyParser() {
+        String[] commands = {"mark", "unmark", "delete", "list", "bye", "todo", "deadline", "event", "find",
+            "edit", "stats"};
+        String[] words = {"1", "2", "12", "-3", "0", "x", "+4", "2147483648", "done", "page", "pending",
+            "description", "deadline", "from", "to", "/by", "/from", "/to", "/tomorrow", "/fromMon", "2025-09-30",
+            "read", "book", "Mon 2pm", "-", ",", "1-3", "2,5", "3-1,7", ",,", " ", "\t"};
+        LegacyParser legacyParser = new LegacyParser();
+        Random random = new Random(2025);
+
+        int compared = 0;
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder input = new StringBuilder(commands[random.nextInt(commands.length)]);
+            for (int wordCount = random.nextInt(6); wordCount > 0; wordCount--) {
+                input.append(random.nextInt(4) == 0 ? "" : " ").append(words[random.nextInt(words.length)]);
+            }
+            String userInput = input.toString();
+
+            Object expected = parseOrThrow(() -> legacyParser.parseCommand(userInput));
+            Object actual = parseOrThrow(() -> parser.parseCommand(userInput));
+            if (isDocumentedChange(userInput, expected)) {
+                continue;
+            }
+            if (userInput.startsWith("list") && expected instanceof InvalidInputFormatException) {
+                // The list command has since gained "list done" and "list pending", and its format hint with them
+                String argument = userInput.substring("list".length()).trim();
+                boolean isStatusFilter = argument.equals("done") || argument.equals("pending");
+                assertEquals(isStatusFilter ? ListCommand.class : InvalidInputFormatException.class,
+                        actual.getClass(), userInput);
+            } else {
+                assertEquals(describe(expected), describe(actual), userInput);
+            }
+            compared++;
+        }
+        assertTrue(compared > 90_000);
+    }
+
+    /**
+     * Returns whether the parsers may differ on the input because of a change made on purpose:
+     * the old parser threw on an event with nothing after "/to", and took the event times by position,
+     * so it mixed them up when the markers came in another order, more than once, or inside a longer word.
+     */
+    private static boolean isDocumentedChange(String userInput, Object legacyResult) {
+        if (!userInput.startsWith("event")) {
+            return false;
+        }
+        if (legacyResult instanceof RuntimeException) {
+            return true;
+        }
+        int fromIndex = userInput.indexOf("/from");
+        int toIndex = userInput.indexOf("/to");
+        if (fromIndex < 0 || toIndex < 0) {
+            return false;
+        }
+        return toIndex < fromIndex
+                || userInput.indexOf("/from", fromIndex + 1) >= 0 || userInput.indexOf("/to", toIndex + 1) >= 0
+                || isLetterAfter(userInput, fromIndex + "/from".length())
+                || isLetterAfter(userInput, toIndex + "/to".length());
+    }
+
+    private static boolean isLetterAfter(String text, int index) {
+        return index < text.length() && Character.isLetter(text.charAt(index));
+    }
+
+    private interface ParseAction {
+        Command parse() throws TweetyException;
+    }
+
+    private static Object parseOrThrow(ParseAction action) {
+        try {
+            return action.parse();
+        } catch (TweetyException | RuntimeException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Describes a parsed command by its class and the values of its fields, or an exception by its message.
+     */
+    private static String describe(Object value) {
+        if (value instanceof Exception) {
+            return value.getClass().getSimpleName() + ": " + ((Exception) value).getMessage();
+        }
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Enum) {
+            return String.valueOf(value);
+        }
+        if (value instanceof int[]) {
+            return Arrays.toString((int[]) value);
+        }
+        if (value instanceof Collection) {
+            StringBuilder description = new StringBuilder("[");
+            for (Object element : (Collection<?>) value) {
+                description.append(describe(element)).append(", ");
+            }
+            return description.append("]").toString();
+        }
+
+        StringBuilder description = new StringBuilder(value.getClass().getSimpleName()).append("{");
+        for (Class<?> type = value.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    description.append(field.getName()).append("=").append(describe(field.get(value))).append("; ");
+                } catch (IllegalAccessException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
+        return description.append("}").toString();
+    }
+
+    private String addTask(String userInput) throws TweetyException {
+        TaskList tasks = new TaskList();
+        execute(userInput, tasks);
+        return tasks.getTask(0).toString();
+    }
+
+    private void execute(String userInput, TaskList tasks) throws TweetyException {
+        TaskListCommand command = (TaskListCommand) parser.parseCommand(userInput);
+        Ui ui = new Ui();
+        try {
+            command.execute(tasks, ui, new Storage(directory.resolve("Tweety.txt"), directory, false, 1000));
+        } finally {
+            ui.closeScanner();
+        }
+    }
+
+    private void assertError(String expectedMessage, String userInput) {
+        TweetyException exception = assertThrows(TweetyException.class, () -> parser.parseCommand(userInput),
+                userInput);
+        assertEquals(expectedMessage, exception.getMessage(), userInput);
+    }
+
+    private static String invalidFormat(String command, String example) {
+        return command + " description is of invalid format, hon.\nPlease follow this format ya: e.g. " + example;
+    }
+
+    private static String emptyDescription(String command, String example) {
+        return command + " description cannot be empty, hon.\nPlease follow this format ya: e.g. " + example;
+    }
+}
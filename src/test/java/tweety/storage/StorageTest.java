@@ -0,0 +1,300 @@
+package tweety.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tweety.exceptions.TweetyException;
+import tweety.tasks.Deadline;
+import tweety.tasks.Event;
+import tweety.tasks.Task;
+import tweety.tasks.TaskList;
+import tweety.tasks.ToDo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StorageTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void saveTasks_journaled_mutationsReplayedOnLoad() throws TweetyException {
+        Path filePath = directory.resolve("Tweety.txt");
+        Storage storage = new Storage(filePath, directory, true, 1000);
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("buy bread"));
+        tasks.addTask(new ToDo("return book"));
+        storage.saveTasks(tasks);
+        tasks.markTask(2);
+        tasks.editTask(3, "description", "return novel");
+        tasks.deleteTask(1);
+        storage.saveTasks(tasks);
+
+        assertTrue(Files.exists(directory.resolve("Tweety.journal")));
+
+        TaskList reloaded = new TaskList(new Storage(filePath, directory, true, 1000).loadTasks());
+        assertEquals(2, reloaded.getTaskCount());
+        assertEquals("[T][X] buy bread", reloaded.getTask(0).toString());
+        assertEquals("[T][ ] return novel", reloaded.getTask(1).toString());
+    }
+
+    @Test
+    public void loadTasks_journalRecordFails_replayStopsAndJournalKeptAside() throws Exception {
+        Path filePath = directory.resolve("Tweety.txt");
+        Storage storage = new Storage(filePath, directory, true, 1000);
+        TaskList tasks = new TaskList(storage.loadTasks());
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new ToDo("buy bread"));
+        storage.saveTasks(tasks);
+        // A mark of a task that is not there, then a delete that would hit the wrong task without it
+        Files.writeString(directory.resolve("Tweety.journal"), "M | 5" + System.lineSeparator()
+                + "D | 1" + System.lineSeparator(), StandardOpenOption.APPEND);
+
+        TaskList reloaded = new TaskList(new Storage(filePath, directory, true, 1000).loadTasks());
+        assertEquals(2, reloaded.getTaskCount());
+        assertEquals("[T][ ] read book", reloaded.getTask(0).toString());
+        assertFalse(Files.exists(directory.resolve("Tweety.journal")));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".failed")).count());
+        }
+
+        TaskList reloadedAgain = new TaskList(new Storage(filePath, directory, true, 1000).loadTasks());
+        assertEquals(2, reloadedAgain.getTaskCount());
+    }
+
+    @Test
+    public void saveTasks_journalPastThreshold_compactedIntoTaskFile() throws Exception {
+        Path filePath = directory.resolve("Tweety.txt");
+        Storage storage = new Storage(filePath, directory, true, 3);
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        for (int i = 1; i <= 7; i++) {
+            tasks.addTask(new ToDo("task " + i));
+            storage.saveTasks(tasks);
+        }
+
+        // Compaction runs in the background, so give it a moment to finish
+        for (int i = 0; i < 50 && Files.exists(directory.resolve("Tweety.journal.old")); i++) {
+            Thread.sleep(20);
+        }
+
+        TaskList reloaded = new TaskList(new Storage(filePath, directory, false, 3).loadTasks());
+        assertEquals(7, reloaded.getTaskCount());
+        assertEquals("[T][ ] task 7", reloaded.getTask(6).toString());
+    }
+
+    @Test
+    public void saveTasks_compactionFails_journalFoldedBackAndCompactedLater() throws Exception {
+        Path filePath = directory.resolve("Tweety.txt");
+        // A directory in the way of the compacted file makes the first compaction fail
+        Path blocker = Files.createDirectories(directory.resolve("Tweety.txt.tmp").resolve("blocker"));
+        Storage storage = new Storage(filePath, directory, true, 3);
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        for (int i = 1; i <= 3; i++) {
+            tasks.addTask(new ToDo("task " + i));
+            storage.saveTasks(tasks);
+        }
+        Thread.sleep(200);
+        assertTrue(Files.exists(directory.resolve("Tweety.journal.old")));
+
+        Files.delete(blocker);
+        Files.delete(blocker.getParent());
+        for (int i = 4; i <= 7; i++) {
+            tasks.addTask(new ToDo("task " + i));
+            storage.saveTasks(tasks);
+        }
+        for (int i = 0; i < 50 && Files.exists(directory.resolve("Tweety.journal.old")); i++) {
+            Thread.sleep(20);
+        }
+
+        assertFalse(Files.exists(directory.resolve("Tweety.journal.old")));
+        TaskList reloaded = new TaskList(new Storage(filePath, directory, true, 3).loadTasks());
+        assertEquals(7, reloaded.getTaskCount());
+        assertEquals("[T][ ] task 7", reloaded.getTask(6).toString());
+    }
+
+    @Test
+    public void loadTasks_textFileWithBinaryFormat_migratedToBinary() throws TweetyException {
+        Path filePath = directory.resolve("Tweety.txt");
+        Storage textStorage = new Storage(filePath, directory, false, 1000);
+        TaskList tasks = new TaskList(textStorage.loadTasks());
+        tasks.addTask(new ToDo("read book"));
+        tasks.addTask(new Deadline("return book", "2025-09-30"));
+        tasks.addTask(new Event("meeting", "Mon 2pm", "4pm"));
+        tasks.markTask(2);
+        textStorage.saveTasks(tasks);
+
+        Storage binaryStorage = new Storage(filePath, directory, false, 1000, false, 0, false, true);
+        TaskList migrated = new TaskList(binaryStorage.loadTasks());
+
+        assertTrue(Files.exists(directory.resolve("Tweety.bin")));
+        assertTrue(Files.exists(directory.resolve("Tweety.txt.bak")));
+        assertFalse(Files.exists(filePath));
+
+        TaskList reloaded = new TaskList(
+                new Storage(filePath, directory, false, 1000, false, 0, false, true).loadTasks());
+        for (TaskList loaded : new TaskList[] {migrated, reloaded}) {
+            assertEquals(3, loaded.getTaskCount());
+            assertEquals("[T][ ] read book", loaded.getTask(0).toString());
+            assertEquals("[D][X] return book (by: Sep 30 2025)", loaded.getTask(1).toString());
+            assertEquals("[E][ ] meeting (from: Mon 2pm to: 4pm)", loaded.getTask(2).toString());
+        }
+    }
+
+    @Test
+    public void read_binaryFileWithCorruptLength_rejectedBeforeAllocating() throws Exception {
+        BinaryTaskFormat format = new BinaryTaskFormat();
+        Path file = directory.resolve("Tweety.bin");
+        format.write(file, 1, List.of(format.encodeTask(new ToDo("read book"))), false);
+        byte[] bytes = Files.readAllBytes(file);
+        // The description length follows the 20-byte header and the type and status bytes of the task
+        for (int lengthByte = 22; lengthByte < 26; lengthByte++) {
+            bytes[lengthByte] = (byte) 0x7f;
+        }
+        Files.write(file, bytes);
+
+        IOException exception = assertThrows(IOException.class, () -> format.read(file, task -> { }));
+        assertEquals("Corrupted task file: " + file, exception.getMessage());
+    }
+
+    @Test
+    public void exportTasks_csvAndJson_importedBackUnchanged() throws TweetyException {
+        Storage storage = new Storage(directory.resolve("Tweety.txt"), directory, false, 1000);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read \"War, and Peace\"\nagain"));
+        tasks.addTask(new Deadline("return book", "2025-09-30"));
+        tasks.addTask(new Event("meeting", "Mon, 2pm", "4pm"));
+        tasks.markTask(2);
+
+        for (String fileName : new String[] {"tasks.csv", "tasks.json"}) {
+            assertEquals(3, storage.exportTasks(tasks, directory.resolve(fileName)));
+
+            TaskList imported = new TaskList();
+            ImportResult result = storage.importTasks(directory.resolve(fileName), imported);
+            assertEquals(3, result.getImportedCount());
+            assertEquals(0, result.getSkippedCount());
+            // The line break survives the exchange file, but not the import into a one-line-per-task list
+            assertEquals("T | [ ] | read \"War, and Peace\" again", imported.getTask(0).toStorageString());
+            for (int i = 1; i < 3; i++) {
+                assertEquals(tasks.getTask(i).toStorageString(), imported.getTask(i).toStorageString());
+            }
+        }
+    }
+
+    @Test
+    public void importTasks_lineBreaksAndSeparators_savedAndReloadedUnchanged() throws Exception {
+        Path filePath = directory.resolve("Tweety.txt");
+        Path csv = directory.resolve("tasks.csv");
+        Files.writeString(csv, "type,description,from,to\n"
+                + "todo,\"line one\r\nline two\",,\n"
+                + "todo,a | b,,\n"
+                + "event,\"talk\n\",Mon | 2pm,\"4pm\nsharp\"\n");
+        Storage storage = new Storage(filePath, directory, false, 1000);
+        TaskList tasks = new TaskList();
+        assertEquals(3, storage.importTasks(csv, tasks).getImportedCount());
+        storage.saveTasks(tasks);
+
+        TaskList reloaded = new TaskList(new Storage(filePath, directory, false, 1000).loadTasks());
+        assertEquals(3, reloaded.getTaskCount());
+        assertEquals("[T][ ] line one line two", reloaded.getTask(0).toString());
+        assertEquals("[T][ ] a / b", reloaded.getTask(1).toString());
+        assertEquals("[E][ ] talk (from: Mon / 2pm to: 4pm sharp)", reloaded.getTask(2).toString());
+    }
+
+    @Test
+    public void flush_writerThreadStopped_failsInsteadOfHanging() {
+        StorageWriter writer = new StorageWriter(() -> {
+            throw new OutOfMemoryError("no room to save");
+        }, 0);
+        writer.requestWrite();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, writer::flush);
+        assertEquals("no room to save", exception.getCause().getMessage());
+        assertThrows(IllegalStateException.class, writer::requestWrite);
+        assertThrows(IllegalStateException.class, writer::close);
+
+        StorageWriter closedWriter = new StorageWriter(() -> { }, 0);
+        closedWriter.close();
+        assertThrows(IllegalStateException.class, closedWriter::requestWrite);
+        assertThrows(IllegalStateException.class, closedWriter::flush);
+    }
+
+    @Test
+    public void importTasks_malformedAfterFirstChunk_nothingAddedOrLeftToSave() throws Exception {
+        Path csv = directory.resolve("tasks.csv");
+        StringBuilder content = new StringBuilder("type,description,from,to\n");
+        for (int i = 1; i <= 3000; i++) {
+            content.append("todo,task ").append(i).append(",,\n");
+        }
+        Files.writeString(csv, content.append("todo,\"never closed,,\n").toString());
+        Storage storage = new Storage(directory.resolve("Tweety.txt"), directory, false, 1000);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new ToDo("read book"));
+        tasks.drainMutations();
+
+        assertThrows(TweetyException.class, () -> storage.importTasks(csv, tasks));
+        assertEquals(1, tasks.getTaskCount());
+        assertEquals("[T][ ] read book", tasks.getTask(0).toString());
+        assertTrue(tasks.drainMutations().isEmpty());
+    }
+
+    @Test
+    public void switchTo_pastLoadedListCap_idleListSavedDroppedAndReloaded() throws TweetyException {
+        Workspaces workspaces = new Workspaces(directory, 2);
+        workspaces.switchTo("Work");
+        TaskList work = workspaces.getCurrentTasks();
+        work.addTask(new ToDo("write report"));
+        workspaces.getCurrentStorage().saveTasks(work);
+
+        workspaces.switchTo("home");
+        workspaces.switchTo("gym");
+        assertFalse(workspaces.isLoaded("work"));
+        assertTrue(workspaces.isLoaded("gym"));
+        assertEquals(List.of("gym", "home", "main", "work"), workspaces.getListNames());
+
+        workspaces.switchTo("work");
+        assertNotSame(work, workspaces.getCurrentTasks());
+        assertEquals("[T][ ] write report", workspaces.getCurrentTasks().getTask(0).toString());
+        assertThrows(TweetyException.class, () -> workspaces.switchTo("../work"));
+    }
+
+    @Test
+    public void switchTo_listEvictedWhileCompacting_reloadedWithEveryTask() throws TweetyException {
+        System.setProperty("tweety.storage.journal", "true");
+        System.setProperty("tweety.storage.compactEvery", "3");
+        try {
+            Workspaces workspaces = new Workspaces(directory, 1);
+            workspaces.switchTo("work");
+            TaskList work = workspaces.getCurrentTasks();
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                tasks.add(new ToDo("task " + i));
+            }
+            work.addTasks(tasks);
+            // Past the threshold, so the save starts a compaction of every task in the background
+            workspaces.getCurrentStorage().saveTasks(work);
+
+            workspaces.switchTo("home");
+            assertFalse(workspaces.isLoaded("work"));
+            // Dropping the list waits for its compaction, so a reload never races it for the same files
+            assertFalse(Files.exists(directory.resolve("lists").resolve("work.journal.old")));
+            workspaces.switchTo("work");
+
+            TaskList reloaded = workspaces.getCurrentTasks();
+            assertEquals(50_000, reloaded.getTaskCount());
+            assertEquals("[T][ ] task 49999", reloaded.getTask(49_999).toString());
+        } finally {
+            System.clearProperty("tweety.storage.journal");
+            System.clearProperty("tweety.storage.compactEvery");
+        }
+    }
+}
@@ -3,7 +3,11 @@ package tweety.tasks;
 import org.junit.jupiter.api.Test;
 import tweety.exceptions.TweetyException;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -106,5 +110,385 @@ public class TaskListTest {
         assertEquals("Aww, hon, please give me a valid task number!", exception.getMessage());
     }
 
+    @Test
+    public void editTask_cachedStrings_refreshedAfterEachChange() {
+        TaskList taskList = new TaskList();
+        Task deadline = new Deadline("return book", LocalDate.of(2019, 12, 2));
+        taskList.addTask(deadline);
+        try {
+            assertEquals("[D][ ] return book (by: Dec 2 2019)", deadline.toString());
+            assertEquals("D | [ ] | return book | 2019-12-02", deadline.toStorageString());
+
+            taskList.markTask(1);
+            taskList.editTask(1, "deadline", "2019-12-05");
+            assertEquals("[D][X] return book (by: Dec 5 2019)", deadline.toString());
+            assertEquals("D | [X] | return book | 2019-12-05", deadline.toStorageString());
+        } catch (TweetyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void editTask_invalidDeadline_exceptionThrownAndTaskUnchanged() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("return book", LocalDate.of(2025, 9, 30)));
+
+        TweetyException exception = assertThrows(TweetyException.class,
+                () -> taskList.editTask(1, "deadline", "bogus"));
+        assertTrue(exception.getMessage().startsWith("Oopsie, hon! Invalid date format: bogus"));
+        assertEquals("D | [ ] | return book | 2025-09-30", taskList.getTask(0).toStorageString());
+        assertEquals(1, taskList.getDeadlinesDueBy(LocalDate.of(2025, 9, 30)).size());
+    }
+
+    @Test
+    public void findTasks_partialWordAndEditedTask_matchesInListOrder() {
+        TaskList taskList = new TaskList();
+        Task book = new ToDo("read Book");
+        Task notebook = new ToDo("buy notebook");
+        Task milk = new ToDo("buy milk");
+        taskList.addTask(book);
+        taskList.addTask(notebook);
+        taskList.addTask(milk);
+        try {
+            assertEquals(List.of(book, notebook), taskList.findTasks("BOOK"));
+            assertEquals(List.of(notebook), taskList.findTasks("buy note"));
+
+            taskList.editTask(3, "description", "return library book");
+            taskList.deleteTask(1);
+            assertEquals(List.of(notebook, milk), taskList.findTasks("book"));
+            assertTrue(taskList.findTasks("milk").isEmpty());
+        } catch (TweetyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void findTasks_trigramIndexBuiltAtThreshold_sameMatchesAsScan() {
+        TaskList taskList = new TaskList(2);
+        Task essay = new ToDo("write Essay draft");
+        Task book = new ToDo("read book");
+        taskList.addTask(essay);
+        assertEquals(List.of(essay), taskList.findTasks("say d"));
+
+        taskList.addTask(book);
+        taskList.addTask(new ToDo("buy milk"));
+        try {
+            assertEquals(List.of(essay), taskList.findTasks("say d"));
+            assertEquals(List.of(book), taskList.findTasks("BOO"));
+            assertTrue(taskList.findTasks("ookk").isEmpty());
+
+            taskList.editTask(1, "description", "book club");
+            assertEquals(List.of(essay, book), taskList.findTasks("book"));
+            assertTrue(taskList.findTasks("essay").isEmpty());
+        } catch (TweetyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void deleteTask_earlierTaskDeleted_idsStableAndPositionsShift() {
+        TaskList taskList = new TaskList();
+        Task task1 = new ToDo("iP");
+        Task task2 = new ToDo("tP");
+        Task task3 = new ToDo("CS2103T");
+        taskList.addTask(task1);
+        taskList.addTask(task2);
+        taskList.addTask(task3);
+        int task3Id = task3.getId();
+        try {
+            taskList.deleteTask(1);
+            assertEquals(task3Id, task3.getId());
+            assertEquals(task3, taskList.getTaskById(task3Id));
+            assertEquals(2, taskList.getTaskNumber(task3Id));
+            assertEquals(task3, taskList.retrieveTask(2));
+
+            assertEquals(task2, taskList.deleteTaskById(task2.getId()));
+            assertEquals(List.of(task3), taskList.getAllTasks());
+            assertThrows(TweetyException.class, () -> taskList.getTaskById(task2.getId()));
+        } catch (TweetyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void deleteTasks_rangeAndList_deletedInOnePassAndRecordedFromTheBack() {
+        TaskList taskList = new TaskList();
+        for (int i = 1; i <= 6; i++) {
+            taskList.addTask(new ToDo("task " + i));
+        }
+        taskList.drainMutations();
+
+        TaskSelection selection = new TaskSelection();
+        selection.addRange(2, 3);
+        selection.addRange(5, 5);
+        selection.addRange(3, 3);
+        try {
+            List<Task> deletedTasks = taskList.deleteTasks(selection);
+            assertEquals(3, deletedTasks.size());
+            assertEquals("task 2", deletedTasks.get(0).getDescription());
+            assertEquals(3, taskList.getTaskCount());
+            assertEquals("task 4", taskList.retrieveTask(2).getDescription());
+        } catch (TweetyException e) {
+            fail();
+        }
+
+        List<TaskMutation> mutations = taskList.drainMutations();
+        assertEquals(List.of(5, 3, 2), mutations.stream().map(TaskMutation::getTaskNumber).toList());
+    }
+
+    @Test
+    public void deleteTasks_outOfRangeSelection_nothingDeleted() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new ToDo("iP"));
+        TaskSelection selection = new TaskSelection();
+        selection.addRange(1, 2);
+
+        assertThrows(TweetyException.class, () -> taskList.deleteTasks(selection));
+        assertEquals(1, taskList.getTaskCount());
+    }
+
+    @Test
+    public void getDeadlinesDueBy_afterMarkEditAndDelete_indexKeptCurrent() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("essay", LocalDate.of(2025, 9, 30)));
+        taskList.addTask(new ToDo("iP"));
+        taskList.addTask(new Deadline("quiz", LocalDate.of(2025, 9, 1)));
+        taskList.addTask(new Deadline("exam", LocalDate.of(2025, 11, 20)));
+        LocalDate lastDay = LocalDate.of(2025, 10, 1);
+
+        try {
+            assertEquals(List.of("quiz", "essay"), getDescriptions(taskList.getDeadlinesDueBy(lastDay)));
+
+            taskList.markTask(3);
+            assertEquals(List.of("essay"), getDescriptions(taskList.getDeadlinesDueBy(lastDay)));
+
+            taskList.editTask(4, "deadline", "2025-09-15");
+            taskList.unmarkTask(3);
+            assertEquals(List.of("quiz", "exam", "essay"), getDescriptions(taskList.getDeadlinesDueBy(lastDay)));
+
+            taskList.deleteTask(1);
+            assertEquals(List.of("quiz"), getDescriptions(taskList.getOverdueDeadlines(LocalDate.of(2025, 9, 15))));
+        } catch (TweetyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void getEventsBetween_scheduledEvents_overlappingEventsFound() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Event("standup", "2025-10-01 09:00", "09:30"));
+        taskList.addTask(new Event("party", "Fri 7pm", "11pm"));
+        taskList.addTask(new Event("trip", "2025-09-30", "2025-10-02"));
+        taskList.addTask(new Event("review", "2025-10-01 0915", "1000"));
+
+        assertEquals(List.of("trip", "standup", "review"),
+                getDescriptions(taskList.getEventsBetween(LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 1))));
+        assertEquals(List.of("trip"),
+                getDescriptions(taskList.getEventsBetween(LocalDate.of(2025, 10, 2), LocalDate.of(2025, 10, 9))));
+        assertEquals(3, taskList.getEventConflicts().size());
+
+        try {
+            taskList.editTask(3, "to", "2025-09-30");
+            taskList.markTask(1);
+        } catch (TweetyException e) {
+            fail();
+        }
+        List<EventConflict> conflicts = taskList.getEventConflicts();
+        assertEquals(0, conflicts.size());
+        assertEquals(List.of("standup", "review"),
+                getDescriptions(taskList.getEventsBetween(LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 1))));
+    }
+
+    @Test
+    public void getTasksWithStatus_afterMarkUnmarkAndDelete_countsKeptCurrent() {
+        ArrayList<Task> loadedTasks = new ArrayList<>();
+        Task done = new ToDo("done");
+        done.markAsDone();
+        loadedTasks.add(done);
+        loadedTasks.add(new ToDo("pending"));
+        TaskList taskList = new TaskList(loadedTasks);
+        taskList.addTask(new ToDo("new"));
+
+        assertEquals(1, taskList.getCompletedTaskCount());
+        assertEquals(2, taskList.getPendingTaskCount());
+        try {
+            taskList.markTask(3);
+            taskList.markTask(3);
+            taskList.unmarkTask(1);
+            assertEquals(List.of("new"), getDescriptions(taskList.getTasksWithStatus(true)));
+            assertEquals(List.of("done", "pending"), getDescriptions(taskList.getTasksWithStatus(false)));
+
+            taskList.deleteTasks(TaskSelection.completedTasks());
+            taskList.deleteTask(1);
+        } catch (TweetyException e) {
+            fail();
+        }
+        assertEquals(0, taskList.getCompletedTaskCount());
+        assertEquals(1, taskList.getPendingTaskCount());
+        assertEquals(List.of("pending"), getDescriptions(taskList.getTasksWithStatus(false)));
+    }
+
+    @Test
+    public void undo_deleteMarkAndEdit_changesReversedInPlaceAndRedoable() {
+        TaskList taskList = new TaskList();
+        for (String description : List.of("iP", "tP", "quiz")) {
+            Task task = new ToDo(description);
+            taskList.addTask(task);
+            taskList.recordEdit(UndoableEdit.add(List.of(task)));
+        }
+        try {
+            Task tP = taskList.deleteTask(2);
+            taskList.recordEdit(UndoableEdit.delete(List.of(tP)));
+            Task quiz = taskList.markTask(2);
+            taskList.recordEdit(UndoableEdit.mark(List.of(quiz), List.of(quiz)));
+            Task iP = taskList.editTask(1, "description", "iP v2");
+            taskList.recordEdit(UndoableEdit.edit(iP, "description", "iP", "iP v2"));
+
+            assertEquals(UndoableEdit.Type.EDIT, taskList.undo().getType());
+            assertEquals(UndoableEdit.Type.MARK, taskList.undo().getType());
+            assertEquals(UndoableEdit.Type.DELETE, taskList.undo().getType());
+            assertEquals(List.of("iP", "tP", "quiz"), getDescriptions(taskList.getAllTasks()));
+            assertEquals(0, taskList.getCompletedTaskCount());
+
+            assertEquals(UndoableEdit.Type.DELETE, taskList.redo().getType());
+            assertEquals(UndoableEdit.Type.MARK, taskList.redo().getType());
+            assertEquals(List.of("iP", "quiz"), getDescriptions(taskList.getAllTasks()));
+            assertTrue(taskList.retrieveTask(2).isCompleted());
+
+            // A new change forgets the change that could still be redone
+            Task exam = new ToDo("exam");
+            taskList.addTask(exam);
+            taskList.recordEdit(UndoableEdit.add(List.of(exam)));
+            assertNull(taskList.redo());
+        } catch (TweetyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void recordEdit_mostIdsDeleted_idsCompactedAndHistoryKept() throws TweetyException {
+        TaskList taskList = new TaskList();
+        for (int i = 1; i <= 100; i++) {
+            taskList.addTask(new ToDo("task " + i));
+        }
+        // Deleted without being recorded, so the history refers to none of them
+        for (int i = 1; i <= 50; i++) {
+            taskList.deleteTask(1);
+        }
+        Task deleted = taskList.deleteTask(1);
+        taskList.recordEdit(UndoableEdit.delete(List.of(deleted)));
+
+        assertEquals(1, deleted.getId());
+        assertEquals(2, taskList.getTask(0).getId());
+        assertEquals(50, taskList.getTask(48).getId());
+
+        assertEquals(UndoableEdit.Type.DELETE, taskList.undo().getType());
+        assertEquals(50, taskList.getTaskCount());
+        assertEquals("task 51", taskList.getTask(0).getDescription());
+        assertEquals("task 52", taskList.getTask(1).getDescription());
+
+        // Renumbering to make room for an inserted task keeps the history too
+        taskList.insertTask(2, new ToDo("inserted"));
+        assertEquals(UndoableEdit.Type.DELETE, taskList.redo().getType());
+        assertEquals(List.of("inserted", "task 52"), getDescriptions(taskList.getTasks(1, 2)));
+    }
+
+    @Test
+    public void read_concurrentWritersAndReaders_noLostUpdatesAndConsistentReads() throws InterruptedException {
+        TaskList taskList = new TaskList();
+        int writerCount = 4;
+        int tasksPerWriter = 500;
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < writerCount; w++) {
+            String prefix = "writer" + w + " task";
+            writers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < tasksPerWriter; i++) {
+                        Task task = new ToDo(prefix + i);
+                        taskList.addTask(task);
+                        if (i % 2 == 0) {
+                            taskList.markTaskById(task.id);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (isWriting.get()) {
+                        taskList.read(tasks -> {
+                            int count = tasks.getTaskCount();
+                            assertEquals(count, tasks.getCompletedTaskCount() + tasks.getPendingTaskCount());
+                            assertEquals(count, tasks.getAllTasks().size());
+                            assertEquals(count, tasks.findTasks("task").size());
+                            return null;
+                        });
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+
+        readers.forEach(Thread::start);
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(writerCount * tasksPerWriter, taskList.getTaskCount());
+        assertEquals(writerCount * tasksPerWriter / 2, taskList.getCompletedTaskCount());
+        assertEquals(tasksPerWriter, taskList.findTasks("writer3").size());
+    }
 
+    @Test
+    public void snapshot_listChangedAfterwards_snapshotKeepsFrozenTasks() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 2000; i++) {
+            taskList.addTask(new ToDo("task" + i));
+        }
+        List<String> descriptions = getDescriptions(taskList.getAllTasks());
+        TaskSnapshot snapshot = taskList.snapshot();
+        try {
+            taskList.markTask(1);
+            taskList.editTask(1000, "description", "edited");
+            taskList.deleteTask(2000);
+            taskList.insertTask(1, new ToDo("first"));
+        } catch (TweetyException e) {
+            fail();
+        }
+        taskList.addTask(new ToDo("last"));
+
+        List<Task> snapshotTasks = new ArrayList<>();
+        snapshot.forEach(snapshotTasks::add);
+        assertEquals(2000, snapshot.getTaskCount());
+        assertEquals(0, snapshot.getCompletedTaskCount());
+        assertEquals(descriptions, getDescriptions(snapshotTasks));
+        assertThrows(UnsupportedOperationException.class, () -> snapshotTasks.get(0).markAsDone());
+        // Tasks that never changed are copied as the snapshot is read, so the list keeps its own
+        assertThrows(UnsupportedOperationException.class, () -> snapshotTasks.get(500).markAsDone());
+        assertNotSame(taskList.getTask(501), snapshotTasks.get(500));
+        assertEquals(taskList.getTask(501).toString(), snapshotTasks.get(500).toString());
+
+        List<Task> currentTasks = new ArrayList<>();
+        taskList.snapshot().forEach(currentTasks::add);
+        assertEquals(getDescriptions(taskList.getAllTasks()), getDescriptions(currentTasks));
+        assertTrue(currentTasks.get(1).isCompleted());
+    }
+
+    private static List<String> getDescriptions(List<Task> tasks) {
+        return tasks.stream().map(Task::getDescription).toList();
+    }
 }